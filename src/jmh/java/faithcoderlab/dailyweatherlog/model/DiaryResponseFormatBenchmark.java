@@ -0,0 +1,80 @@
+package faithcoderlab.dailyweatherlog.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * /read/diaries 응답을 형식별로 인코딩하는 CPU 비용을 측정한다.
+ * 형식별 응답 바이트 수는 Setup 에서 한 번 계산해 출력한다 (JMH 로그의 "payload" 줄).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DiaryResponseFormatBenchmark {
+
+    @Param({"100", "10000"})
+    private int diaryCount;
+
+    @Param({"json", "columns", "smile", "cbor"})
+    private String format;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private Object payload;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() throws IOException {
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        List<DiaryView> diaries = new ArrayList<>(diaryCount);
+        for (int i = 0; i < diaryCount; i++) {
+            diaries.add(new DiaryView((long) i + 1, startDate.plusDays(i % 366), "벤치마크용 일기 " + i,
+                    i % 2 == 0 ? "Clear" : "Clouds", 10.0 + i % 20, 0L));
+        }
+
+        payload = "columns".equals(format) ? DiaryColumns.from(diaries, true) : diaries;
+        writer = switch (format) {
+            case "smile" -> mapper(new ObjectMapper(new SmileFactory())).writer();
+            case "cbor" -> mapper(new ObjectMapper(new CBORFactory())).writer();
+            default -> mapper(new ObjectMapper()).writer();
+        };
+
+        System.out.printf("payload format=%s gzip=%s diaryCount=%d bytes=%d%n", format, gzip, diaryCount, encode().length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        if (!gzip) {
+            return writer.writeValueAsBytes(payload);
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            writer.writeValue(out, payload);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static ObjectMapper mapper(ObjectMapper objectMapper) {
+        return objectMapper.registerModule(new JavaTimeModule());
+    }
+}
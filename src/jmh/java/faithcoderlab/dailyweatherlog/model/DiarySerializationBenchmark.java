@@ -0,0 +1,60 @@
+package faithcoderlab.dailyweatherlog.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /read/diaries 응답 크기의 Diary 목록 JSON 직렬화 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DiarySerializationBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int diaryCount;
+
+    private List<Diary> diaries;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        diaries = new ArrayList<>(diaryCount);
+        for (int i = 0; i < diaryCount; i++) {
+            diaries.add(Diary.builder()
+                    .id((long) i + 1)
+                    .date(startDate.plusDays(i % 366))
+                    .text("벤치마크용 일기 " + i)
+                    .weather(i % 2 == 0 ? "Clear" : "Clouds")
+                    .temperature(10.0 + i % 20)
+                    .version(0L)
+                    .build());
+        }
+
+        writer = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writerFor(List.class);
+    }
+
+    @Benchmark
+    public byte[] serializeDiaries() throws Exception {
+        return writer.writeValueAsBytes(diaries);
+    }
+}
@@ -0,0 +1,98 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import faithcoderlab.dailyweatherlog.model.Diary;
+import faithcoderlab.dailyweatherlog.model.WeatherData;
+import faithcoderlab.dailyweatherlog.repository.DiaryRepository;
+import faithcoderlab.dailyweatherlog.repository.WeatherDataRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /read/diaries 한 달치(약 600건)를 조회하고 JSON 으로 직렬화하는 비용을 엔티티와 DiaryView 로 비교한다.
+ * 힙 할당량은 -prof gc 로 함께 확인한다 (gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DiaryReadProjectionBenchmark {
+
+    private static final LocalDate MONTH_START = DiaryServiceBenchmark.START_DATE.plusMonths(5);
+    private static final LocalDate MONTH_END = MONTH_START.plusMonths(1).minusDays(1);
+
+    private WeatherApiStubServer stubServer;
+    private ConfigurableApplicationContext context;
+    private DiaryService diaryService;
+    private DiaryRepository diaryRepository;
+    private TransactionTemplate readOnlyTransaction;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stubServer = WeatherApiStubServer.start();
+        context = DiaryServiceBenchmark.startApplication(stubServer.url(), "diary-read-projection");
+
+        WeatherDataRepository weatherDataRepository = context.getBean(WeatherDataRepository.class);
+        diaryService = context.getBean(DiaryService.class);
+        diaryRepository = context.getBean(DiaryRepository.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        List<DiaryService.DiaryEntry> entries = new ArrayList<>();
+        for (int day = 0; day < DiaryServiceBenchmark.SEEDED_DAYS; day++) {
+            LocalDate date = DiaryServiceBenchmark.START_DATE.plusDays(day);
+            weatherDataRepository.save(WeatherData.builder()
+                    .city("Seoul")
+                    .date(date)
+                    .weather("Clear")
+                    .temperature(20.0)
+                    .build());
+            for (int i = 0; i < DiaryServiceBenchmark.DIARIES_PER_DAY; i++) {
+                entries.add(new DiaryService.DiaryEntry(date, "벤치마크용 일기 " + day + "-" + i + " ".repeat(200)));
+            }
+        }
+        diaryService.createDiaries(entries);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        stubServer.close();
+    }
+
+    /**
+     * 이전 조회 경로: 읽기 전용 트랜잭션에서 엔티티를 읽어 그대로 직렬화한다.
+     */
+    @Benchmark
+    public byte[] readEntities() throws Exception {
+        List<Diary> diaries = readOnlyTransaction.execute(status -> diaryRepository.findAllByDateBetween(MONTH_START, MONTH_END));
+        return objectMapper.writeValueAsBytes(diaries);
+    }
+
+    @Benchmark
+    public byte[] readViews() throws Exception {
+        return objectMapper.writeValueAsBytes(diaryService.readDiaries(MONTH_START, MONTH_END, true));
+    }
+
+    @Benchmark
+    public byte[] readViewsWithoutText() throws Exception {
+        return objectMapper.writeValueAsBytes(diaryService.readDiaries(MONTH_START, MONTH_END, false));
+    }
+}
@@ -0,0 +1,97 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import faithcoderlab.dailyweatherlog.model.DiaryView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 디스크 색인에 합성 일기를 diaryCount 건 넣고 검색 지연을 잰다. DB 조회는 포함하지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DiarySearchBenchmark {
+
+    private static final LocalDate START_DATE = LocalDate.of(2015, 1, 1);
+    private static final int DAYS = 3650;
+    private static final String[] WEATHERS = {"Clear", "Clouds", "Rain", "Snow", "Mist"};
+    private static final String[] WORDS = {
+            "오늘은", "비가", "많이", "내려서", "우산을", "챙겼다", "친구와", "산책을", "했다", "커피를",
+            "마셨다", "회사에서", "회의가", "길었다", "저녁에는", "영화를", "봤다", "바람이", "차가웠다", "눈이",
+            "walked", "park", "coffee", "meeting", "rain", "movie", "dinner", "book", "tired", "happy"
+    };
+
+    @Param({"100000", "1000000"})
+    private int diaryCount;
+
+    private Path indexDir;
+    private DiarySearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        indexDir = Files.createTempDirectory("diary-search-benchmark");
+        index = new DiarySearchIndex(indexDir);
+
+        Random random = new Random(42);
+        List<DiaryView> batch = new ArrayList<>(10_000);
+        for (long id = 1; id <= diaryCount; id++) {
+            StringBuilder text = new StringBuilder();
+            for (int word = 0; word < 12; word++) {
+                text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            batch.add(new DiaryView(id, START_DATE.plusDays(random.nextInt(DAYS)), text.toString(),
+                    WEATHERS[random.nextInt(WEATHERS.length)], 15.0, 0L));
+            if (batch.size() == 10_000) {
+                index.add(batch);
+                batch.clear();
+            }
+        }
+        index.add(batch);
+        index.commit();
+        index.refresh();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        index.close();
+        try (Stream<Path> files = Files.walk(indexDir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Long> searchSingleTerm() {
+        return index.search("우산을", null, null, null, 20).ids();
+    }
+
+    @Benchmark
+    public List<Long> searchAllTerms() {
+        return index.search("비가 우산을 챙겼다", null, null, null, 20).ids();
+    }
+
+    @Benchmark
+    public List<Long> searchWithFilters() {
+        return index.search("coffee 친구와", START_DATE.plusYears(3), START_DATE.plusYears(4), "Rain", 20).ids();
+    }
+}
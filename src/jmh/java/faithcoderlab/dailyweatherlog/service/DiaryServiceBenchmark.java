@@ -0,0 +1,145 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import faithcoderlab.dailyweatherlog.DailyWeatherLogApplication;
+import faithcoderlab.dailyweatherlog.model.DiaryView;
+import faithcoderlab.dailyweatherlog.model.WeatherData;
+import faithcoderlab.dailyweatherlog.repository.WeatherDataRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내장 H2 위에서 DiaryService 의 주요 경로를 측정한다. 날씨 API 는 로컬 스텁 서버로 대체한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DiaryServiceBenchmark {
+
+    static final int SEEDED_DAYS = 365;
+    static final int DIARIES_PER_DAY = 20;
+    static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+
+    private WeatherApiStubServer stubServer;
+    private ConfigurableApplicationContext context;
+    private DiaryService diaryService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stubServer = WeatherApiStubServer.start();
+        context = startApplication(stubServer.url(), "diary-service");
+
+        WeatherDataRepository weatherDataRepository = context.getBean(WeatherDataRepository.class);
+        diaryService = context.getBean(DiaryService.class);
+
+        List<DiaryService.DiaryEntry> entries = new ArrayList<>();
+        for (int day = 0; day < SEEDED_DAYS; day++) {
+            LocalDate date = START_DATE.plusDays(day);
+            weatherDataRepository.save(WeatherData.builder()
+                    .city("Seoul")
+                    .date(date)
+                    .weather("Clear")
+                    .temperature(20.0)
+                    .build());
+            for (int i = 0; i < DIARIES_PER_DAY; i++) {
+                entries.add(new DiaryService.DiaryEntry(date, "벤치마크용 일기 " + day + "-" + i));
+            }
+        }
+        diaryService.createDiaries(entries);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        stubServer.close();
+    }
+
+    @Benchmark
+    public void createDiary() {
+        diaryService.createDiary(randomDate(), "벤치마크 중 작성한 일기");
+    }
+
+    @Benchmark
+    public List<DiaryView> readDiary() {
+        return diaryService.readDiary(randomDate());
+    }
+
+    @Benchmark
+    public List<DiaryView> readDiariesForMonth() {
+        LocalDate startDate = randomDate().withDayOfMonth(1);
+        return diaryService.readDiaries(startDate, startDate.plusMonths(1).minusDays(1));
+    }
+
+    @Benchmark
+    public DiaryService.DiaryPage readDiaryPage() {
+        LocalDate startDate = randomDate();
+        return diaryService.readDiaryPage(startDate, startDate.plusDays(90), null, 100);
+    }
+
+    @Benchmark
+    public long exportYear() throws IOException {
+        return diaryService.exportDiaries(START_DATE, START_DATE.plusDays(SEEDED_DAYS - 1), OutputStream.nullOutputStream());
+    }
+
+    private static LocalDate randomDate() {
+        return START_DATE.plusDays(ThreadLocalRandom.current().nextInt(SEEDED_DAYS));
+    }
+
+    /**
+     * MySQL 대신 MySQL 호환 모드의 인메모리 H2 로 애플리케이션을 띄운다.
+     * H2 는 네이티브 시퀀스를 쓰므로 Flyway(MySQL 용) 대신 Hibernate 가 스키마를 만든다.
+     * 로컬 application.properties 보다 우선하도록 커맨드라인 인자로 넘긴다.
+     * 검색 색인은 디스크에 쓰므로 끈다. 검색 비용은 DiarySearchBenchmark 가 따로 잰다.
+     */
+    static ConfigurableApplicationContext startApplication(String weatherApiUrl, String databaseName) {
+        return startApplication(WebApplicationType.NONE, weatherApiUrl, databaseName);
+    }
+
+    static ConfigurableApplicationContext startApplication(
+            WebApplicationType webApplicationType, String weatherApiUrl, String databaseName, String... extraArgs
+    ) {
+        List<String> args = applicationArgs(weatherApiUrl, databaseName);
+        args.addAll(List.of(extraArgs));
+
+        return new SpringApplicationBuilder(DailyWeatherLogApplication.class)
+                .web(webApplicationType)
+                .run(args.toArray(String[]::new));
+    }
+
+    static List<String> applicationArgs(String weatherApiUrl, String databaseName) {
+        return new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:" + databaseName + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.flyway.enabled=false",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                "--spring.jpa.properties.hibernate.order_inserts=true",
+                "--openweathermap.api.key=benchmark-api-key",
+                "--openweathermap.api.url=" + weatherApiUrl,
+                "--openweathermap.api.city=Seoul",
+                "--diary.search.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.file.name="));
+    }
+}
@@ -0,0 +1,127 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import faithcoderlab.dailyweatherlog.DailyWeatherLogApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 새 JVM 으로 애플리케이션을 띄워 첫 요청(GET /read/diary)이 200 으로 돌아올 때까지의 시간을 잰다.
+ * cds 모드는 -XX:+AutoCreateSharedArchive 로 첫(워밍업) 실행에서 아카이브를 만들고 이후 실행에서 쓴다.
+ * 벤치마크 jar 자체를 클래스패스로 쓰므로 AOT 처리 결과는 포함되지 않는다. AOT 는 bootJar 와 -Dspring.aot.enabled=true 로 따로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StartupTimeBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+    @Param({"default", "cds"})
+    public String jvmMode;
+
+    private WeatherApiStubServer stubServer;
+    private Path archiveDir;
+    private HttpClient client;
+    private Process process;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stubServer = WeatherApiStubServer.start();
+        archiveDir = Files.createTempDirectory("startup-benchmark");
+        client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+    }
+
+    @TearDown(Level.Iteration)
+    public void stopApplication() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+            process = null;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        stubServer.close();
+        Files.deleteIfExists(archiveDir.resolve("startup.jsa"));
+        Files.deleteIfExists(archiveDir);
+    }
+
+    @Benchmark
+    public int timeToFirstRequest() throws IOException, InterruptedException {
+        int port = freePort();
+        process = new ProcessBuilder(command(port))
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/read/diary?date=2024-01-01"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited during startup with code " + process.exitValue());
+            }
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return response.statusCode();
+                }
+            } catch (IOException e) {
+                // 아직 포트를 열지 않았다
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("Application did not answer within " + STARTUP_TIMEOUT);
+    }
+
+    private List<String> command(int port) {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        if ("cds".equals(jvmMode)) {
+            command.add("-XX:+AutoCreateSharedArchive");
+            command.add("-XX:SharedArchiveFile=" + archiveDir.resolve("startup.jsa"));
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(DailyWeatherLogApplication.class.getName());
+        command.addAll(DiaryServiceBenchmark.applicationArgs(stubServer.url(), "startup"));
+        command.add("--server.port=" + port);
+        command.add("--weather.collection.on-startup=false");
+        return command;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
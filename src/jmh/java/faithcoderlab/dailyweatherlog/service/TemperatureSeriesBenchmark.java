@@ -0,0 +1,88 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import faithcoderlab.dailyweatherlog.model.WeatherData;
+import faithcoderlab.dailyweatherlog.repository.WeatherDataRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 10년치 일별 기온의 요약(최저/최고/평균/백분위)을 엔티티 목록과 primitive 시계열로 계산해 비교한다.
+ * 엔티티 쪽은 DB 조회를 빼고 이미 읽어 온 목록에서 시작하므로 실제 차이는 이보다 크다. 할당량은 -prof gc 로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemperatureSeriesBenchmark {
+
+    private static final LocalDate START_DATE = LocalDate.of(2015, 1, 1);
+    private static final LocalDate END_DATE = START_DATE.plusYears(10).minusDays(1);
+    private static final List<Double> PERCENTILES = List.of(50.0, 90.0, 95.0);
+
+    private List<WeatherData> entities;
+    private TemperatureSeriesService temperatureSeriesService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        entities = new ArrayList<>();
+        // 시계열은 아래에서 이벤트로 채우므로 불러올 저장된 날씨는 없다
+        temperatureSeriesService = new TemperatureSeriesService((WeatherDataRepository) Proxy.newProxyInstance(
+                WeatherDataRepository.class.getClassLoader(), new Class<?>[]{WeatherDataRepository.class},
+                (proxy, method, args) -> List.of()));
+        temperatureSeriesService.startLoading().join();
+
+        for (LocalDate date = START_DATE; !date.isAfter(END_DATE); date = date.plusDays(1)) {
+            double temperature = Math.round((12 + 14 * Math.sin(date.getDayOfYear() / 58.0) + random.nextGaussian() * 3) * 10) / 10.0;
+            entities.add(WeatherData.builder().city("Seoul").date(date).weather("Clear").temperature(temperature).build());
+            temperatureSeriesService.onWeatherSaved(new WeatherSavedEvent(List.of(
+                    new WeatherService.CityWeather("Seoul", date, new WeatherService.WeatherDto("Clear", temperature)))));
+        }
+    }
+
+    @Benchmark
+    public double[] entitySummary() {
+        List<Double> temperatures = new ArrayList<>();
+        for (WeatherData data : entities) {
+            if (!data.getDate().isBefore(START_DATE) && !data.getDate().isAfter(END_DATE)) {
+                temperatures.add(data.getTemperature());
+            }
+        }
+        temperatures.sort(null);
+
+        double sum = 0;
+        for (Double temperature : temperatures) {
+            sum += temperature;
+        }
+        double[] result = new double[3 + PERCENTILES.size()];
+        result[0] = temperatures.get(0);
+        result[1] = temperatures.get(temperatures.size() - 1);
+        result[2] = sum / temperatures.size();
+        for (int i = 0; i < PERCENTILES.size(); i++) {
+            result[3 + i] = temperatures.get((int) Math.round(PERCENTILES.get(i) / 100 * (temperatures.size() - 1)));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public TemperatureSeriesService.TemperatureSummary seriesSummary() {
+        return temperatureSeriesService.getSummary("Seoul", START_DATE, END_DATE, PERCENTILES);
+    }
+
+    @Benchmark
+    public TemperatureSeriesService.MovingAverage seriesMovingAverage() {
+        return temperatureSeriesService.getMovingAverage("Seoul", START_DATE, END_DATE, 30);
+    }
+}
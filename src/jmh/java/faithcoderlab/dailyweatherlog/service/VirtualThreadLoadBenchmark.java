@@ -0,0 +1,111 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 느린 날씨 API 뒤에서 POST /create/diary 를 동시에 쏟아 부었을 때의 처리 시간을
+ * 플랫폼 스레드 모드와 가상 스레드 모드로 비교한다.
+ * Tomcat 스레드 수(50)보다 동시 요청 수(200)가 많으므로 플랫폼 모드에서는 요청이 줄을 서게 된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VirtualThreadLoadBenchmark {
+
+    @Param({"platform", "virtual"})
+    public String threadMode;
+
+    @Param({"200"})
+    public int concurrentRequests;
+
+    @Param({"500"})
+    public long upstreamDelayMillis;
+
+    private final AtomicInteger dayOffset = new AtomicInteger();
+
+    private WeatherApiStubServer stubServer;
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stubServer = new WeatherApiStubServer(WeatherParseBenchmark.WEATHER_RESPONSE, upstreamDelayMillis);
+        context = DiaryServiceBenchmark.startApplication(
+                WebApplicationType.SERVLET,
+                stubServer.url(),
+                "virtual-thread-load-" + threadMode,
+                "--server.port=0",
+                "--server.tomcat.threads.max=50",
+                "--spring.datasource.hikari.maximum-pool-size=20",
+                "--spring.threads.virtual.enabled=" + "virtual".equals(threadMode));
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+        clientExecutor = Executors.newCachedThreadPool();
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        stubServer.close();
+        clientExecutor.shutdownNow();
+    }
+
+    /**
+     * 매번 캐시와 DB 에 없는 날짜를 써서 모든 요청이 날씨 API 폴백 경로를 타게 한다.
+     */
+    @Benchmark
+    public int createDiariesAgainstSlowUpstream() {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(concurrentRequests);
+
+        for (int i = 0; i < concurrentRequests; i++) {
+            LocalDate date = LocalDate.of(2000, 1, 1).plusDays(dayOffset.getAndIncrement());
+            HttpRequest request = HttpRequest.newBuilder()
+                    .uri(URI.create(baseUrl + "/create/diary?date=" + date + "&text=load-test"))
+                    .timeout(Duration.ofSeconds(60))
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+
+        int succeeded = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            if (response.join().statusCode() == 200) {
+                succeeded++;
+            }
+        }
+        return succeeded;
+    }
+}
@@ -0,0 +1,53 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+/**
+ * 벤치마크를 오프라인으로 돌리기 위한 OpenWeatherMap 스텁 서버.
+ * responseDelayMillis 로 느린 업스트림을 흉내 낼 수 있다.
+ */
+public class WeatherApiStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+
+    public WeatherApiStubServer(String responseBody, long responseDelayMillis) throws IOException {
+        byte[] body = responseBody.getBytes(StandardCharsets.UTF_8);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/weather", exchange -> {
+            if (responseDelayMillis > 0) {
+                try {
+                    Thread.sleep(responseDelayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+    }
+
+    public static WeatherApiStubServer start() throws IOException {
+        return new WeatherApiStubServer(WeatherParseBenchmark.WEATHER_RESPONSE, 0);
+    }
+
+    public String url() {
+        return "http://localhost:" + server.getAddress().getPort() + "/weather";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
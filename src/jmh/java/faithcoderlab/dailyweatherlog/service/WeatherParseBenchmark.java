@@ -0,0 +1,79 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 경로(문자열 누적 → Map 트리 → 캐스팅)와 스트리밍 파싱 경로를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WeatherParseBenchmark {
+
+    static final String WEATHER_RESPONSE = "{"
+            + "\"coord\":{\"lon\":126.9778,\"lat\":37.5683},"
+            + "\"weather\":[{\"id\":800,\"main\":\"Clear\",\"description\":\"clear sky\",\"icon\":\"01d\"}],"
+            + "\"base\":\"stations\","
+            + "\"main\":{\"temp\":22.5,\"feels_like\":22.1,\"temp_min\":21.7,\"temp_max\":23.6,"
+            + "\"pressure\":1010,\"humidity\":60,\"sea_level\":1010,\"grnd_level\":1000},"
+            + "\"visibility\":10000,"
+            + "\"wind\":{\"speed\":3.6,\"deg\":270,\"gust\":5.1},"
+            + "\"clouds\":{\"all\":0},"
+            + "\"dt\":1735603200,"
+            + "\"sys\":{\"type\":1,\"id\":8105,\"country\":\"KR\",\"sunrise\":1735598400,\"sunset\":1735633200},"
+            + "\"timezone\":32400,\"id\":1835848,\"name\":\"Seoul\",\"cod\":200"
+            + "}";
+
+    private byte[] responseBytes;
+    private ObjectMapper objectMapper;
+    private WeatherApiClient weatherApiClient;
+
+    @Setup
+    public void setUp() {
+        responseBytes = WEATHER_RESPONSE.getBytes(StandardCharsets.UTF_8);
+        objectMapper = new ObjectMapper();
+        weatherApiClient = new WeatherApiClient(objectMapper, null, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public WeatherService.WeatherDto mapTreeParse() throws IOException {
+        BufferedReader br = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(responseBytes)));
+        String inputLine;
+        StringBuilder response = new StringBuilder();
+        while ((inputLine = br.readLine()) != null) {
+            response.append(inputLine);
+        }
+        br.close();
+
+        Map<String, Object> weatherData = objectMapper.readValue(response.toString(), Map.class);
+        Map<String, Object> mainData = (Map<String, Object>) weatherData.get("main");
+        Double temperature = ((Number) mainData.get("temp")).doubleValue();
+        Map<String, Object> weatherDetails = (Map<String, Object>) ((List<?>) weatherData.get("weather")).get(0);
+        String weatherDescription = (String) weatherDetails.get("main");
+
+        return new WeatherService.WeatherDto(weatherDescription, temperature);
+    }
+
+    @Benchmark
+    public WeatherService.WeatherDto streamingParse() {
+        return weatherApiClient.parseWeatherData(new ByteArrayInputStream(responseBytes));
+    }
+}
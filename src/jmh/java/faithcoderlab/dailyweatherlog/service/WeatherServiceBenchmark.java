@@ -0,0 +1,57 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 스텁 서버를 상대로 WeatherService.getWeatherFromApi 전체 경로(HTTP 호출 + 스트리밍 파싱)를 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WeatherServiceBenchmark {
+
+    private WeatherApiStubServer stubServer;
+    private WeatherService weatherService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stubServer = WeatherApiStubServer.start();
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        WeatherApiClient weatherApiClient = new WeatherApiClient(new ObjectMapper(), httpClient, meterRegistry);
+        ReflectionTestUtils.setField(weatherApiClient, "apiKey", "benchmark-api-key");
+        ReflectionTestUtils.setField(weatherApiClient, "apiUrl", stubServer.url());
+        ReflectionTestUtils.setField(weatherApiClient, "city", "Seoul");
+
+        weatherService = new WeatherService(weatherApiClient, null, new WeatherDataCache(366, 3600), meterRegistry,
+                new WeatherApiCircuitBreaker(5, 30), null, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        stubServer.close();
+    }
+
+    @Benchmark
+    public WeatherService.WeatherDto getWeatherFromApi() {
+        return weatherService.getWeatherFromApi();
+    }
+}
@@ -0,0 +1,83 @@
+package faithcoderlab.dailyweatherlog.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * datasource.replica.url 이 있으면 읽기 전용 트랜잭션을 replica 풀로, 나머지를 spring.datasource 의 primary 풀로 보낸다.
+ * replica 의 계정과 드라이버를 따로 주지 않으면 primary 설정을 쓴다. 설정이 없으면 Spring Boot 기본 DataSource 하나만 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.url")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:}") String username,
+            @Value("${datasource.replica.password:}") String password
+    ) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username.isEmpty() ? properties.determineUsername() : username)
+                .password(password.isEmpty() ? properties.determinePassword() : password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    ReplicaLagGuard replicaLagGuard(@Value("${datasource.replica.read-your-writes-ms:5000}") long readYourWritesMillis) {
+        return new ReplicaLagGuard(Duration.ofMillis(readYourWritesMillis), Clock.systemUTC());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagGuard replicaLagGuard
+    ) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagGuard));
+    }
+
+    /**
+     * Hibernate 는 기본적으로 세션이 끝날 때까지 커넥션을 붙잡는다. open-in-view 로 세션이 요청 전체에 걸치면
+     * 앞선 읽기 전용 트랜잭션의 replica 커넥션으로 쓰기가 나갈 수 있으므로, 트랜잭션마다 커넥션을 돌려주게 한다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -0,0 +1,49 @@
+package faithcoderlab.dailyweatherlog.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 replica 로, 쓰기 트랜잭션과 트랜잭션 밖의 커넥션은 primary 로 보낸다.
+ * 트랜잭션 속성이 정해진 뒤에 커넥션을 골라야 하므로 LazyConnectionDataSourceProxy 로 감싸서 쓴다.
+ */
+class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagGuard replicaLagGuard;
+
+    ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagGuard replicaLagGuard) {
+        this.replicaLagGuard = replicaLagGuard;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Route.PRIMARY;
+        }
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        replicaLagGuard.recordWrite();
+                    }
+                });
+            }
+            return Route.PRIMARY;
+        }
+
+        return replicaLagGuard.isPrimaryRequired() ? Route.PRIMARY : Route.REPLICA;
+    }
+}
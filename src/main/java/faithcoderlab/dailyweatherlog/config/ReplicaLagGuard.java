@@ -0,0 +1,95 @@
+package faithcoderlab.dailyweatherlog.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 클라이언트가 방금 쓴 데이터를 replica 복제 지연 때문에 못 보는 일을 막는다.
+ * 쓰기 트랜잭션이 커밋되면 같은 요청의 이후 조회를 primary 로 보내고, 쿠키로 window 동안 그 클라이언트의 다음 요청도 primary 로 보낸다.
+ * HTTP 요청 밖(스케줄러, 백그라운드 작업)의 읽기 전용 조회는 항상 replica 를 쓰므로, 그 경로는 지연을 견뎌야 한다.
+ * 날씨 조회(WeatherService), 백필의 누락 날짜 계산, 기동 시 오늘 날씨 확인은 못 본 행을 다시 받아 upsert 할 뿐이고,
+ * 기온 시계열 적재와 검색 색인의 기동 검사·재생성은 이후 이벤트나 재생성으로 따라잡는다.
+ * 방금 커밋된 행을 읽어야 하는 검색 색인 갱신은 읽기 전용이 아닌 트랜잭션으로 primary 에서 읽는다.
+ */
+class ReplicaLagGuard {
+
+    static final String COOKIE_NAME = "dwl-last-write";
+    private static final String PINNED_ATTRIBUTE = ReplicaLagGuard.class.getName() + ".PINNED";
+
+    private final Duration window;
+    private final Clock clock;
+
+    ReplicaLagGuard(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    /**
+     * 현재 요청에서 이미 썼거나, 쿠키의 마지막 쓰기 시각이 window 안이면 true.
+     */
+    boolean isPrimaryRequired() {
+        HttpServletRequest request = currentRequest();
+        if (request == null) {
+            return false;
+        }
+        if (request.getAttribute(PINNED_ATTRIBUTE) != null) {
+            return true;
+        }
+
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                return isWithinWindow(cookie.getValue());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 쓰기 트랜잭션 커밋 뒤에 불린다. 응답이 이미 나가기 시작했으면 쿠키는 붙이지 못하고 이 요청에만 적용된다.
+     */
+    void recordWrite() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        if (request.getAttribute(PINNED_ATTRIBUTE) != null) {
+            return;
+        }
+        request.setAttribute(PINNED_ATTRIBUTE, Boolean.TRUE);
+
+        HttpServletResponse response = attributes.getResponse();
+        if (response != null && !response.isCommitted()) {
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(clock.millis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+            response.addCookie(cookie);
+        }
+    }
+
+    private boolean isWithinWindow(String value) {
+        try {
+            long elapsed = clock.millis() - Long.parseLong(value);
+            return elapsed >= 0 && elapsed < window.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static HttpServletRequest currentRequest() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest();
+        }
+        return null;
+    }
+}
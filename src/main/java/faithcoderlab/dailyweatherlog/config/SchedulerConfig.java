@@ -3,6 +3,10 @@ package faithcoderlab.dailyweatherlog.config;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+/**
+ * spring.threads.virtual.enabled=true 이면 Spring Boot 가 @Scheduled 작업을
+ * 가상 스레드 기반 SimpleAsyncTaskScheduler 에서 실행한다.
+ */
 @Configuration
 @EnableScheduling
 public class SchedulerConfig {
@@ -0,0 +1,109 @@
+package faithcoderlab.dailyweatherlog.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 날짜 조회가 기대는 인덱스가 실제 스키마에 있는지 기동 시점에 확인하고, 없으면 기동을 중단한다.
+ * 모든 싱글톤(Flyway 마이그레이션 포함)이 초기화된 뒤에 실행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "diary.schema.verify-indexes", havingValue = "true", matchIfMissing = true)
+public class SchemaIndexVerifier implements SmartInitializingSingleton {
+
+    static final List<RequiredIndex> REQUIRED_INDEXES = List.of(
+            new RequiredIndex("diary", List.of("date", "id")),
+            new RequiredIndex("weather_data", List.of("city", "date"))
+    );
+
+    private final DataSource dataSource;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            List<RequiredIndex> missing = new ArrayList<>();
+
+            for (RequiredIndex requiredIndex : REQUIRED_INDEXES) {
+                if (!hasIndex(metaData, connection.getCatalog(), connection.getSchema(), requiredIndex)) {
+                    missing.add(requiredIndex);
+                }
+            }
+
+            if (!missing.isEmpty()) {
+                throw new IllegalStateException("Required database indexes are missing: " + missing
+                        + ". Run the Flyway migrations or set diary.schema.verify-indexes=false.");
+            }
+            log.info("Verified {} required database indexes", REQUIRED_INDEXES.size());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to verify database indexes", e);
+        }
+    }
+
+    private static boolean hasIndex(DatabaseMetaData metaData, String catalog, String schema,
+                                    RequiredIndex requiredIndex) throws SQLException {
+        String table = metaData.storesUpperCaseIdentifiers()
+                ? requiredIndex.table().toUpperCase(Locale.ROOT)
+                : requiredIndex.table();
+
+        Map<String, SortedMap<Short, String>> columnsByIndex = new HashMap<>();
+        try (ResultSet indexInfo = metaData.getIndexInfo(catalog, schema, table, false, true)) {
+            while (indexInfo.next()) {
+                String indexName = indexInfo.getString("INDEX_NAME");
+                String columnName = indexInfo.getString("COLUMN_NAME");
+                if (indexName == null || columnName == null) {
+                    continue;
+                }
+                columnsByIndex.computeIfAbsent(indexName, name -> new TreeMap<>())
+                        .put(indexInfo.getShort("ORDINAL_POSITION"), columnName);
+            }
+        }
+
+        return columnsByIndex.values().stream()
+                .map(SortedMap::values)
+                .anyMatch(columns -> startsWith(columns, requiredIndex.columns()));
+    }
+
+    private static boolean startsWith(Collection<String> indexColumns, List<String> requiredColumns) {
+        if (indexColumns.size() < requiredColumns.size()) {
+            return false;
+        }
+
+        int position = 0;
+        for (String indexColumn : indexColumns) {
+            if (position == requiredColumns.size()) {
+                return true;
+            }
+            if (!indexColumn.equalsIgnoreCase(requiredColumns.get(position++))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    record RequiredIndex(String table, List<String> columns) {
+        @Override
+        public String toString() {
+            return table + columns;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package faithcoderlab.dailyweatherlog.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.Callable;
+
+/**
+ * JSON 외에 Accept: application/x-jackson-smile, application/cbor 로 요청하면 이진 형식으로 응답한다.
+ * 기본 JSON 변환기가 앞에 있으므로 Accept 가 없거나 모든 형식을 허용하면 지금처럼 JSON 이다.
+ * 비동기 응답은 spring.mvc.async.request-timeout 을 따르되, 요청 속성 ASYNC_TIMEOUT_ATTRIBUTE 에 밀리초를 넣은
+ * 요청(예: 내보내기)은 그 값을 제한 시간으로 쓴다.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    public static final String ASYNC_TIMEOUT_ATTRIBUTE = WebConfig.class.getName() + ".asyncTimeout";
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                // Runs before the async context starts, so the timeout set here replaces the default one
+                if (request.getAttribute(ASYNC_TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Long timeout
+                        && request instanceof AsyncWebRequest asyncWebRequest) {
+                    asyncWebRequest.setTimeout(timeout);
+                }
+            }
+        });
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        return new MappingJackson2SmileHttpMessageConverter(binaryObjectMapper(new SmileFactory()));
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        return new MappingJackson2CborHttpMessageConverter(binaryObjectMapper(new CBORFactory()));
+    }
+
+    private static ObjectMapper binaryObjectMapper(JsonFactory factory) {
+        ObjectMapper objectMapper = new ObjectMapper(factory);
+        objectMapper.registerModule(new JavaTimeModule());
+        return objectMapper;
+    }
+}
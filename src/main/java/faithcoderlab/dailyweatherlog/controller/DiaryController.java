@@ -1,16 +1,29 @@
 package faithcoderlab.dailyweatherlog.controller;
 
-import faithcoderlab.dailyweatherlog.model.Diary;
+import faithcoderlab.dailyweatherlog.config.WebConfig;
+import faithcoderlab.dailyweatherlog.exception.InvalidRequestException;
+import faithcoderlab.dailyweatherlog.model.DiaryColumns;
+import faithcoderlab.dailyweatherlog.model.DiaryView;
 import faithcoderlab.dailyweatherlog.service.DiaryService;
+import faithcoderlab.dailyweatherlog.service.DiaryVersionTracker;
+import faithcoderlab.dailyweatherlog.service.DiaryWriteBehindService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -21,50 +34,173 @@ import java.util.List;
 @Tag(name = "Diary API", description = "날씨 일기 관련 API")
 public class DiaryController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final DiaryService diaryService;
+    private final DiaryVersionTracker diaryVersionTracker;
+    private final ObjectProvider<DiaryWriteBehindService> diaryWriteBehindService;
+
+    /**
+     * 내보내기는 전체 기록을 스트리밍하므로 비동기 요청 기본 제한 시간(30초) 대신 이 값을 쓴다.
+     */
+    @Value("${diary.export.timeout-ms:3600000}")
+    private long exportTimeoutMillis;
 
     @PostMapping("/create/diary")
-    @Operation(summary = "일기 생성", description = "날짜와 일기 텍스트를 입력받아 날씨 정보와 함께 저장합니다.")
+    @Operation(summary = "일기 생성", description = "날짜와 일기 텍스트를 입력받아 날씨 정보와 함께 저장합니다. 비동기 모드(diary.write-behind.enabled)에서는 접수만 하고 접수 id 를 반환합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공적으로 일기가 생성됨"),
+            @ApiResponse(responseCode = "202", description = "비동기 모드에서 일기가 접수됨"),
+            @ApiResponse(responseCode = "503", description = "비동기 저장 대기열이 가득 참"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
-    public ResponseEntity<Void> createDiary(
+    public ResponseEntity<DiaryWriteBehindService.AcceptedDiary> createDiary(
             @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date,
             @RequestParam String text
     ) {
         log.info("Request to create diary for date: {}", date);
+
+        DiaryWriteBehindService writeBehindService = diaryWriteBehindService.getIfAvailable();
+        if (writeBehindService != null) {
+            String id = writeBehindService.submit(date, text);
+            return ResponseEntity.accepted().body(new DiaryWriteBehindService.AcceptedDiary(id));
+        }
+
         diaryService.createDiary(date, text);
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/create/diaries")
+    @Operation(summary = "일기 일괄 생성", description = "날짜와 일기 텍스트 목록을 입력받아 날씨 정보와 함께 한 번에 저장합니다. 날씨는 날짜별로 한 번만 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 일기가 생성됨"),
+            @ApiResponse(responseCode = "400", description = "비어 있거나 날짜/내용이 없는 항목이 포함됨"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<Void> createDiaries(@RequestBody List<DiaryService.DiaryEntry> entries) {
+        log.info("Request to create {} diaries", entries.size());
+        diaryService.createDiaries(entries);
+        return ResponseEntity.ok().build();
+    }
+
     @GetMapping("read/diary")
-    @Operation(summary = "날짜별 일기 조회", description = "특정 날짜의 모든 일기를 조회합니다.")
+    @Operation(summary = "날짜별 일기 조회", description = "특정 날짜의 모든 일기를 조회합니다. includeText=false 면 일기 내용을 제외합니다. If-None-Match / If-Modified-Since 를 보내면 변경이 없을 때 304 를 반환합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공적으로 일기 조회됨"),
+            @ApiResponse(responseCode = "304", description = "마지막 조회 이후 변경 없음"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
-    public ResponseEntity<List<Diary>> readDiary(
-            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date
+    public ResponseEntity<List<DiaryView>> readDiary(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date,
+            @RequestParam(defaultValue = "true") boolean includeText,
+            WebRequest request
     ) {
         log.info("Request to read diary for date: {}", date);
-        List<Diary> diaries = diaryService.readDiary(date);
-        return ResponseEntity.ok(diaries);
+        return diaryVersionTracker.readVersioned(date, date, version -> {
+            if (isNotModified(request, version, date, date, includeText ? "full" : "summary")) {
+                return null;
+            }
+            List<DiaryView> diaries = diaryService.readDiary(date, includeText);
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(diaries);
+        });
     }
 
     @GetMapping("/read/diaries")
-    @Operation(summary = "기간별 일기 조회", description = "시작일과 종료일 사이의 모든 일기를 조회합니다.")
+    @Operation(summary = "기간별 일기 조회", description = "시작일과 종료일 사이의 모든 일기를 조회합니다. includeText=false 면 일기 내용을 제외합니다. If-None-Match / If-Modified-Since 를 보내면 변경이 없을 때 304 를 반환합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공적으로 일기 조회됨"),
+            @ApiResponse(responseCode = "304", description = "마지막 조회 이후 변경 없음"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
-    public ResponseEntity<List<Diary>> readDiaries(
+    public ResponseEntity<List<DiaryView>> readDiaries(
             @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
-            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+            @RequestParam(defaultValue = "true") boolean includeText,
+            WebRequest request
     ) {
         log.info("Request to read diaries from {} to {}", startDate, endDate);
-        List<Diary> diaries = diaryService.readDiaries(startDate, endDate);
-        return ResponseEntity.ok(diaries);
+        return diaryVersionTracker.readVersioned(startDate, endDate, version -> {
+            if (isNotModified(request, version, startDate, endDate, includeText ? "full" : "summary")) {
+                return null;
+            }
+            List<DiaryView> diaries = diaryService.readDiaries(startDate, endDate, includeText);
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(diaries);
+        });
+    }
+
+    @GetMapping("/read/diaries/columns")
+    @Operation(summary = "기간별 일기 열 방향 조회", description = "기간별 일기 조회와 같은 결과를 필드별 배열로 반환합니다. 넓은 기간을 조회할 때 응답 크기가 작습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 일기 조회됨"),
+            @ApiResponse(responseCode = "304", description = "마지막 조회 이후 변경 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<DiaryColumns> readDiaryColumns(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+            @RequestParam(defaultValue = "true") boolean includeText,
+            WebRequest request
+    ) {
+        log.info("Request to read diary columns from {} to {}", startDate, endDate);
+        return diaryVersionTracker.readVersioned(startDate, endDate, version -> {
+            if (isNotModified(request, version, startDate, endDate, includeText ? "columns-full" : "columns-summary")) {
+                return null;
+            }
+            DiaryColumns columns = diaryService.readDiaryColumns(startDate, endDate, includeText);
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(columns);
+        });
+    }
+
+    @GetMapping("/read/diaries/page")
+    @Operation(summary = "기간별 일기 페이지 조회", description = "시작일과 종료일 사이의 일기를 (날짜, id) 순으로 한 페이지씩 조회합니다. 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 일기 조회됨"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<DiaryService.DiaryPage> readDiaryPage(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        log.info("Request to read diary page from {} to {}", startDate, endDate);
+        DiaryService.DiaryPage page = diaryService.readDiaryPage(startDate, endDate, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/export/diaries")
+    @Operation(summary = "일기 내보내기", description = "일기를 한 줄에 하나씩 JSON(NDJSON) 으로 스트리밍합니다. 기간을 생략하면 전체 일기를 내보냅니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 일기를 내보냄"),
+            @ApiResponse(responseCode = "400", description = "시작일과 종료일 중 하나만 지정됨"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<StreamingResponseBody> exportDiaries(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+            WebRequest webRequest
+    ) {
+        log.info("Request to export diaries from {} to {}", startDate, endDate);
+
+        if ((startDate == null) != (endDate == null)) {
+            throw new InvalidRequestException("시작일과 종료일은 함께 지정해야 합니다");
+        }
+
+        webRequest.setAttribute(WebConfig.ASYNC_TIMEOUT_ATTRIBUTE, exportTimeoutMillis, RequestAttributes.SCOPE_REQUEST);
+        StreamingResponseBody body = outputStream -> diaryService.exportDiaries(startDate, endDate, outputStream);
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(body);
     }
 
     @PutMapping("/update/diary")
@@ -82,6 +218,23 @@ public class DiaryController {
         return ResponseEntity.ok().build();
     }
 
+    @PutMapping("/update/diary/{id}")
+    @Operation(summary = "일기 수정 (id)", description = "id 로 일기를 수정합니다. 조회 시 받은 version 과 현재 version 이 다르면 수정하지 않습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 일기가 수정됨"),
+            @ApiResponse(responseCode = "409", description = "다른 요청이 먼저 일기를 수정함"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<Void> updateDiaryById(
+            @PathVariable Long id,
+            @RequestParam Long version,
+            @RequestParam String text
+    ) {
+        log.info("Request to update diary {} at version {}", id, version);
+        diaryService.updateDiary(id, version, text);
+        return ResponseEntity.ok().build();
+    }
+
     @DeleteMapping("/delete/diary")
     @Operation(summary = "일기 삭제", description = "특정 날짜의 모든 일기를 삭제합니다.")
     @ApiResponses(value = {
@@ -95,4 +248,33 @@ public class DiaryController {
         diaryService.deleteDiary(date);
         return ResponseEntity.ok().build();
     }
+
+    @DeleteMapping("/delete/diaries")
+    @Operation(summary = "기간별 일기 삭제", description = "시작일부터 종료일까지의 일기를 일정 건수씩 나눠 삭제합니다. 보존 기간 정리에 사용합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 일기가 삭제됨"),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<DiaryService.DeleteResult> deleteDiaries(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate
+    ) {
+        log.info("Request to delete diaries from {} to {}", startDate, endDate);
+        return ResponseEntity.ok(diaryService.deleteDiaries(startDate, endDate));
+    }
+
+    /**
+     * diary_daily_count 의 날짜별 버전만으로 조건부 요청을 판단한다. true 면 304 응답이 이미 설정된 것이며 diary 테이블은 읽지 않는다.
+     * false 여도 ETag, Last-Modified 헤더는 응답에 설정된다. version 은 본문과 같은 트랜잭션에서 읽은 것이어야 한다.
+     */
+    private boolean isNotModified(WebRequest request, DiaryVersionTracker.Version version,
+                                  LocalDate startDate, LocalDate endDate, String variant) {
+        String eTag = version.eTag(variant);
+        if (request.checkNotModified(eTag, version.lastModified().toEpochMilli())) {
+            log.debug("Diaries from {} to {} not modified", startDate, endDate);
+            return true;
+        }
+        return false;
+    }
 }
@@ -0,0 +1,67 @@
+package faithcoderlab.dailyweatherlog.controller;
+
+import faithcoderlab.dailyweatherlog.service.DiarySearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Diary Search API", description = "일기 내용 검색 API")
+public class DiarySearchController {
+
+    private final ObjectProvider<DiarySearchService> diarySearchService;
+
+    @GetMapping("/search/diaries")
+    @Operation(summary = "일기 내용 검색", description = "검색어를 모두 포함하는 일기를 관련도 순으로 조회합니다. 기간과 날씨로 좁힐 수 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 조회됨"),
+            @ApiResponse(responseCode = "400", description = "잘못된 검색 조건"),
+            @ApiResponse(responseCode = "503", description = "일기 검색이 비활성화됨"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<DiarySearchService.SearchResult> searchDiaries(
+            @RequestParam String q,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+            @RequestParam(required = false) String weather,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        log.info("Request to search diaries between {} and {} with weather: {}", startDate, endDate, weather);
+        return ResponseEntity.ok(requireSearch().search(q, startDate, endDate, weather, size));
+    }
+
+    @PostMapping("/admin/search/rebuild")
+    @Operation(summary = "검색 색인 재생성", description = "검색 색인을 비우고 diary 테이블에서 다시 만듭니다. 재생성은 백그라운드에서 진행됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "재생성이 시작됨"),
+            @ApiResponse(responseCode = "503", description = "일기 검색이 비활성화됨"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<Void> rebuild() {
+        log.info("Request to rebuild diary search index");
+        requireSearch().rebuild();
+        return ResponseEntity.accepted().build();
+    }
+
+    private DiarySearchService requireSearch() {
+        DiarySearchService service = diarySearchService.getIfAvailable();
+        if (service == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "일기 검색이 비활성화되어 있습니다 (diary.search.enabled)");
+        }
+        return service;
+    }
+}
@@ -0,0 +1,137 @@
+package faithcoderlab.dailyweatherlog.controller;
+
+import faithcoderlab.dailyweatherlog.exception.InvalidRequestException;
+import faithcoderlab.dailyweatherlog.service.StatisticsService;
+import faithcoderlab.dailyweatherlog.service.TemperatureSeriesService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Statistics API", description = "날씨·일기 통계 API")
+public class StatisticsController {
+
+    private final StatisticsService statisticsService;
+    private final TemperatureSeriesService temperatureSeriesService;
+
+    @Value("${openweathermap.api.city}")
+    private String defaultCity;
+
+    @GetMapping("/statistics/weather/monthly")
+    @Operation(summary = "월별 기온 통계", description = "도시의 월별 최저, 최고, 평균 기온과 수집 일수를 조회합니다. 도시를 생략하면 기본 도시를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 조회됨"),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<List<StatisticsService.MonthlyWeather>> getMonthlyWeather(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth startMonth,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth endMonth,
+            @RequestParam(required = false) String city
+    ) {
+        log.info("Request to read monthly weather statistics from {} to {} for city: {}", startMonth, endMonth, city);
+        validateRange(startMonth.atDay(1), endMonth.atDay(1));
+        return ResponseEntity.ok(statisticsService.getMonthlyWeather(resolveCity(city), startMonth, endMonth));
+    }
+
+    @GetMapping("/statistics/weather/conditions")
+    @Operation(summary = "월별 날씨 설명별 일수", description = "도시의 월별로 날씨 설명(weather)마다 며칠이었는지 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 조회됨"),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<List<StatisticsService.WeatherConditionCount>> getWeatherConditions(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth startMonth,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth endMonth,
+            @RequestParam(required = false) String city
+    ) {
+        log.info("Request to read weather condition statistics from {} to {} for city: {}", startMonth, endMonth, city);
+        validateRange(startMonth.atDay(1), endMonth.atDay(1));
+        return ResponseEntity.ok(statisticsService.getWeatherConditions(resolveCity(city), startMonth, endMonth));
+    }
+
+    @GetMapping("/statistics/temperature/summary")
+    @Operation(summary = "기간 기온 요약", description = "도시의 기간 안 최저, 최고, 기온 폭, 평균과 요청한 백분위를 조회합니다. 기온이 저장된 날만 계산에 씁니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 조회됨"),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간 또는 백분위"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<TemperatureSeriesService.TemperatureSummary> getTemperatureSummary(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+            @RequestParam(required = false) String city,
+            @RequestParam(defaultValue = "50,90,95") List<Double> percentiles
+    ) {
+        log.info("Request to read temperature summary from {} to {} for city: {}", startDate, endDate, city);
+        return ResponseEntity.ok(temperatureSeriesService.getSummary(resolveCity(city), startDate, endDate, percentiles));
+    }
+
+    @GetMapping("/statistics/temperature/moving-average")
+    @Operation(summary = "기온 이동 평균", description = "날짜마다 그 날까지 window 일 동안의 평균 기온을 조회합니다. 기온이 없는 날은 평균에서 빠집니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 조회됨"),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간 또는 window"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<TemperatureSeriesService.MovingAverage> getTemperatureMovingAverage(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+            @RequestParam(required = false) String city,
+            @RequestParam(defaultValue = "7") int window
+    ) {
+        log.info("Request to read {}-day temperature moving average from {} to {} for city: {}", window, startDate, endDate, city);
+        return ResponseEntity.ok(temperatureSeriesService.getMovingAverage(resolveCity(city), startDate, endDate, window));
+    }
+
+    @GetMapping("/statistics/diaries/daily")
+    @Operation(summary = "날짜별 일기 수", description = "기간 안에서 일기가 있는 날짜별 일기 수를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 조회됨"),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<List<StatisticsService.DailyDiaryCount>> getDailyDiaryCounts(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate
+    ) {
+        log.info("Request to read daily diary counts from {} to {}", startDate, endDate);
+        validateRange(startDate, endDate);
+        return ResponseEntity.ok(statisticsService.getDailyDiaryCounts(startDate, endDate));
+    }
+
+    @PostMapping("/admin/statistics/rebuild")
+    @Operation(summary = "통계 집계 재생성", description = "집계 테이블을 비우고 weather_data, diary 테이블에서 다시 만듭니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 재생성됨"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<StatisticsService.RebuildResult> rebuild() {
+        log.info("Request to rebuild statistics rollups");
+        return ResponseEntity.ok(statisticsService.rebuild());
+    }
+
+    private String resolveCity(String city) {
+        return city == null || city.isBlank() ? defaultCity : city;
+    }
+
+    private static void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidRequestException("시작 날짜가 종료 날짜보다 늦습니다");
+        }
+    }
+}
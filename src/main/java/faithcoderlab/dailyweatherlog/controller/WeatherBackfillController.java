@@ -0,0 +1,55 @@
+package faithcoderlab.dailyweatherlog.controller;
+
+import faithcoderlab.dailyweatherlog.model.WeatherBackfillJob;
+import faithcoderlab.dailyweatherlog.service.WeatherBackfillService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/weather/backfill")
+@Tag(name = "Weather Backfill API", description = "과거 날씨 백필 관리 API")
+public class WeatherBackfillController {
+
+    private final WeatherBackfillService weatherBackfillService;
+
+    @PostMapping
+    @Operation(summary = "날씨 백필 시작", description = "기간 안에서 저장되지 않은 날짜의 날씨를 과거 날씨 공급원으로 채웁니다. 도시를 생략하면 수집 대상 도시 전체를 채웁니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "백필 작업이 시작됨"),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간"),
+            @ApiResponse(responseCode = "500", description = "과거 날씨 공급원이 설정되지 않았거나 서버 오류")
+    })
+    public ResponseEntity<WeatherBackfillJob> startBackfill(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+            @RequestParam(required = false) List<String> cities
+    ) {
+        log.info("Request to backfill weather data from {} to {} for cities: {}", startDate, endDate, cities);
+        WeatherBackfillJob job = weatherBackfillService.startBackfill(startDate, endDate, cities);
+        return ResponseEntity.accepted().body(job);
+    }
+
+    @GetMapping("/{jobId}")
+    @Operation(summary = "날씨 백필 진행 상황 조회", description = "백필 작업의 상태, 처리 건수, 마지막 체크포인트 날짜를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공적으로 조회됨"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 작업"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<WeatherBackfillJob> getBackfillJob(@PathVariable Long jobId) {
+        log.info("Request to read weather backfill job: {}", jobId);
+        return ResponseEntity.ok(weatherBackfillService.getJob(jobId));
+    }
+}
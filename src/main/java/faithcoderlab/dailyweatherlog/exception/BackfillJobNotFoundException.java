@@ -0,0 +1,11 @@
+package faithcoderlab.dailyweatherlog.exception;
+
+/**
+ * 조회하려는 백필 작업이 존재하지 않을 때 발생한다. 404 로 응답한다.
+ */
+public class BackfillJobNotFoundException extends RuntimeException {
+
+    public BackfillJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package faithcoderlab.dailyweatherlog.exception;
+
+/**
+ * 수정하려는 일기의 버전이 저장된 버전과 달라, 다른 요청이 먼저 수정했을 때 발생한다.
+ */
+public class DiaryVersionConflictException extends RuntimeException {
+
+    public DiaryVersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -3,16 +3,58 @@ package faithcoderlab.dailyweatherlog.exception;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
 
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
-    @ExceptionHandler(RuntimeException.class)
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequestException(InvalidRequestException e) {
+        log.warn("Invalid request: {}", e.getMessage());
+        ErrorResponse response = new ErrorResponse("BAD_REQUEST", e.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(BackfillJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleBackfillJobNotFoundException(BackfillJobNotFoundException e) {
+        log.warn("Backfill job not found: {}", e.getMessage());
+        ErrorResponse response = new ErrorResponse("NOT_FOUND", e.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(WriteBehindQueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleWriteBehindQueueFullException(WriteBehindQueueFullException e) {
+        log.warn("Diary write-behind queue rejected request: {}", e.getMessage());
+        ErrorResponse response = new ErrorResponse("SERVICE_UNAVAILABLE", e.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler({DiaryVersionConflictException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<ErrorResponse> handleVersionConflict(RuntimeException e) {
+        log.warn("Concurrent modification rejected: {}", e.getMessage());
+        ErrorResponse response = new ErrorResponse("CONFLICT", e.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * 컨트롤러가 상태 코드를 정해 던진 예외는 RuntimeException 처리로 500 이 되지 않게 그 코드로 응답한다.
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatusException(ResponseStatusException e) {
+        log.warn("Request rejected with status {}: {}", e.getStatusCode(), e.getReason());
+        HttpStatus status = HttpStatus.resolve(e.getStatusCode().value());
+        ErrorResponse response = new ErrorResponse(status != null ? status.name() : String.valueOf(e.getStatusCode().value()),
+                e.getReason());
+        return new ResponseEntity<>(response, e.getStatusCode());
+    }
+
+        @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException e) {
         log.error("Runtime exception occurred: {}", e.getMessage());
         ErrorResponse response = new ErrorResponse("INTERNAL_SERVER_ERROR", e.getMessage());
@@ -0,0 +1,15 @@
+package faithcoderlab.dailyweatherlog.exception;
+
+/**
+ * 요청 값(기간, 페이지 크기, 커서, 검색어 등)이 올바르지 않을 때 발생한다. 400 으로 응답한다.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,18 @@
+package faithcoderlab.dailyweatherlog.exception;
+
+import lombok.Getter;
+
+/**
+ * 날씨 API 호출 자체(연결, 타임아웃, 비정상 응답 코드)가 실패했을 때 던진다.
+ * 응답 코드를 받지 못한 경우 statusCode 는 0 이다.
+ */
+@Getter
+public class WeatherApiException extends RuntimeException {
+
+    private final int statusCode;
+
+    public WeatherApiException(String message, int statusCode, Throwable cause) {
+        super(message, cause);
+        this.statusCode = statusCode;
+    }
+}
@@ -0,0 +1,11 @@
+package faithcoderlab.dailyweatherlog.exception;
+
+/**
+ * 비동기 일기 저장 대기열이 가득 차 요청을 받을 수 없을 때 발생한다.
+ */
+public class WriteBehindQueueFullException extends RuntimeException {
+
+    public WriteBehindQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -11,16 +11,22 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @Entity
 @Builder
-@Table(name = "diary")
+@Table(name = "diary", indexes = @Index(name = "idx_diary_date_id", columnList = "date, id"))
 public class Diary {
+    /**
+     * text 컬럼 VARCHAR(255) 의 최대 글자 수.
+     */
+    public static final int TEXT_MAX_LENGTH = 255;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "diary_seq_generator")
+    @SequenceGenerator(name = "diary_seq_generator", sequenceName = "diary_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
     private LocalDate date;
 
-    @Column(nullable = false)
+    @Column(nullable = false, length = TEXT_MAX_LENGTH)
     private String text;
 
     @Column(nullable = false)
@@ -28,4 +34,7 @@ public class Diary {
 
     @Column(nullable = false)
     private Double temperature;
+
+    @Version
+    private Long version;
 }
@@ -0,0 +1,46 @@
+package faithcoderlab.dailyweatherlog.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일기 목록을 필드별 배열로 담은 열 방향 응답. 넓은 기간 조회에서 항목마다 반복되는 키 이름을 없애 응답 크기를 줄인다.
+ * i 번째 일기는 각 배열의 i 번째 값이다. 내용을 제외하고 조회하면 text 는 응답에서 빠진다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DiaryColumns(
+        int size,
+        List<Long> id,
+        List<LocalDate> date,
+        List<String> text,
+        List<String> weather,
+        double[] temperature,
+        long[] version
+) {
+
+    public static DiaryColumns from(List<DiaryView> diaries, boolean includeText) {
+        int size = diaries.size();
+        List<Long> ids = new ArrayList<>(size);
+        List<LocalDate> dates = new ArrayList<>(size);
+        List<String> texts = includeText ? new ArrayList<>(size) : null;
+        List<String> weathers = new ArrayList<>(size);
+        double[] temperatures = new double[size];
+        long[] versions = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            DiaryView diary = diaries.get(i);
+            ids.add(diary.id());
+            dates.add(diary.date());
+            if (texts != null) {
+                texts.add(diary.text());
+            }
+            weathers.add(diary.weather());
+            temperatures[i] = diary.temperature();
+            versions[i] = diary.version();
+        }
+        return new DiaryColumns(size, ids, dates, texts, weathers, temperatures, versions);
+    }
+}
@@ -0,0 +1,36 @@
+package faithcoderlab.dailyweatherlog.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 날짜별 일기 수 집계. 일기 생성 시 증가하고, 삭제 시 해당 날짜를 다시 센다.
+ * version 과 lastModified 는 그 날짜의 일기가 생성, 수정, 삭제될 때마다 같은 트랜잭션에서 갱신되며 조회 API 의 ETag 가 된다.
+ * 일기가 모두 지워진 날짜도 행을 남겨(diaryCount 0) version 이 줄지 않게 한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Builder
+@Table(name = "diary_daily_count")
+public class DiaryDailyCount {
+    @Id
+    private LocalDate date;
+
+    @Column(nullable = false)
+    private int diaryCount;
+
+    @Column(nullable = false)
+    private long version;
+
+    /**
+     * UTC 기준 마지막 변경 시각.
+     */
+    @Column(nullable = false)
+    private LocalDateTime lastModified;
+}
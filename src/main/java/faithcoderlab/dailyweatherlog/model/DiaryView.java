@@ -0,0 +1,17 @@
+package faithcoderlab.dailyweatherlog.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDate;
+
+/**
+ * 조회 API 용 일기 읽기 모델. JPQL 생성자 표현식으로 바로 만들어지므로 엔티티 하이드레이션과
+ * 영속성 컨텍스트 스냅샷 비용이 없다. 내용을 제외하고 조회하면 text 는 null 이며 응답에서 빠진다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DiaryView(Long id, LocalDate date, String text, String weather, Double temperature, Long version) {
+
+    public DiaryView(Long id, LocalDate date, String weather, Double temperature, Long version) {
+        this(id, date, null, weather, temperature, version);
+    }
+}
@@ -0,0 +1,66 @@
+package faithcoderlab.dailyweatherlog.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 과거 날씨 백필 작업의 진행 상황. 청크를 저장할 때마다 갱신되어 재시작 후 이어서 실행하는 기준이 된다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Builder
+@Table(name = "weather_backfill_job")
+public class WeatherBackfillJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 2000)
+    private String cities;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    @Column(nullable = false)
+    private LocalDate endDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(nullable = false)
+    private int totalCount;
+
+    @Column(nullable = false)
+    private int completedCount;
+
+    @Column(nullable = false)
+    private int failedCount;
+
+    private LocalDate checkpointDate;
+
+    @Column(length = 500)
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public List<String> getCityList() {
+        return Arrays.asList(cities.split(","));
+    }
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+}
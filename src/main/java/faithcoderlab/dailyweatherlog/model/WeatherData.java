@@ -11,13 +11,18 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @Entity
 @Builder
-@Table(name = "weather_data")
+@Table(name = "weather_data",
+        uniqueConstraints = @UniqueConstraint(name = "uk_weather_data_city_date", columnNames = {"city", "date"}))
 public class WeatherData {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "weather_data_seq_generator")
+    @SequenceGenerator(name = "weather_data_seq_generator", sequenceName = "weather_data_seq", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false, length = 100)
+    private String city;
+
+    @Column(nullable = false)
     private LocalDate date;
 
     @Column(nullable = false)
@@ -0,0 +1,35 @@
+package faithcoderlab.dailyweatherlog.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 도시별 월간 날씨 설명(weather)별 일수 집계.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Builder
+@Table(name = "weather_monthly_condition",
+        uniqueConstraints = @UniqueConstraint(name = "uk_weather_monthly_condition", columnNames = {"city", "month_start", "weather"}))
+public class WeatherMonthlyCondition {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String city;
+
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(nullable = false)
+    private String weather;
+
+    @Column(nullable = false)
+    private int dayCount;
+}
@@ -0,0 +1,44 @@
+package faithcoderlab.dailyweatherlog.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 도시별 월간 기온 집계. weather_data 가 저장될 때 해당 월만 다시 계산된다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Builder
+@Table(name = "weather_monthly_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_weather_monthly_stats_city_month", columnNames = {"city", "month_start"}))
+public class WeatherMonthlyStats {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String city;
+
+    /**
+     * 해당 월의 1일.
+     */
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(nullable = false)
+    private double minTemperature;
+
+    @Column(nullable = false)
+    private double maxTemperature;
+
+    @Column(nullable = false)
+    private double temperatureSum;
+
+    @Column(nullable = false)
+    private int dayCount;
+}
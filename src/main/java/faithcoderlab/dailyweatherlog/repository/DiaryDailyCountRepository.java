@@ -0,0 +1,64 @@
+package faithcoderlab.dailyweatherlog.repository;
+
+import faithcoderlab.dailyweatherlog.model.DiaryDailyCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DiaryDailyCountRepository extends JpaRepository<DiaryDailyCount, LocalDate> {
+    List<DiaryDailyCount> findAllByDateBetweenAndDiaryCountGreaterThanOrderByDateAsc(
+            LocalDate startDate, LocalDate endDate, int diaryCount);
+
+    long countByDiaryCountGreaterThan(int diaryCount);
+
+    /**
+     * 날짜의 일기 수를 delta 만큼 올리고 version 을 1 올린다. 행이 없으면 만든다. delta 가 0 이면 version 만 오른다.
+     */
+    @Modifying
+    @Query(value = "insert into diary_daily_count (date, diary_count, version, last_modified) values (:date, :delta, 1, :now) "
+            + "on duplicate key update diary_count = diary_count + :delta, version = version + 1, last_modified = :now",
+            nativeQuery = true)
+    int increment(@Param("date") LocalDate date, @Param("delta") int delta, @Param("now") LocalDateTime now);
+
+    /**
+     * 기간의 행을 0 건으로 돌리고 version 을 올린다. 행을 지우지 않으므로 version 은 줄지 않는다. 이어서 upsertCounted 로 다시 센다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update DiaryDailyCount c set c.diaryCount = 0, c.version = c.version + 1, c.lastModified = :now "
+            + "where c.date between :startDate and :endDate")
+    int resetBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate,
+                     @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update DiaryDailyCount c set c.diaryCount = 0, c.version = c.version + 1, c.lastModified = :now")
+    int resetAll(@Param("now") LocalDateTime now);
+
+    /**
+     * 기간의 날짜별 일기 수를 diary 테이블에서 다시 센다. 먼저 resetBetween 이나 resetAll 로 version 을 올려 둬야 한다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into diary_daily_count (date, diary_count, version, last_modified) "
+            + "select date, count(*), 1, :now from diary where date between :startDate and :endDate group by date "
+            + "on duplicate key update diary_count = values(diary_count)",
+            nativeQuery = true)
+    int upsertCounted(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * 기간 안 날짜들의 version 합과 가장 늦은 변경 시각. 어느 날짜든 바뀌면 합이 커지므로 기간 전체의 버전으로 쓴다.
+     */
+    @Query("select coalesce(sum(c.version), 0) as versionSum, max(c.lastModified) as lastModified "
+            + "from DiaryDailyCount c where c.date between :startDate and :endDate")
+    VersionSummary summarizeVersions(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    interface VersionSummary {
+        long getVersionSum();
+
+        LocalDateTime getLastModified();
+    }
+}
@@ -1,13 +1,138 @@
 package faithcoderlab.dailyweatherlog.repository;
 
 import faithcoderlab.dailyweatherlog.model.Diary;
+import faithcoderlab.dailyweatherlog.model.DiaryView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface DiaryRepository extends JpaRepository<Diary, Long> {
     List<Diary> findAllByDate(LocalDate date);
     List<Diary> findAllByDateBetween(LocalDate startDate, LocalDate endDate);
-    void deleteAllByDate(LocalDate date);
+
+    /**
+     * 엔티티를 읽지 않고 DELETE 한 문장으로 지운다.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Diary d where d.date = :date")
+    int deleteAllByDate(@Param("date") LocalDate date);
+
+    @Query("select new faithcoderlab.dailyweatherlog.model.DiaryView(d.id, d.date, d.text, d.weather, d.temperature, d.version) "
+            + "from Diary d where d.date = :date order by d.id asc")
+    List<DiaryView> findViewsByDate(@Param("date") LocalDate date);
+
+    @Query("select new faithcoderlab.dailyweatherlog.model.DiaryView(d.id, d.date, d.weather, d.temperature, d.version) "
+            + "from Diary d where d.date = :date order by d.id asc")
+    List<DiaryView> findViewsWithoutTextByDate(@Param("date") LocalDate date);
+
+    @Query("select new faithcoderlab.dailyweatherlog.model.DiaryView(d.id, d.date, d.text, d.weather, d.temperature, d.version) "
+            + "from Diary d where d.date between :startDate and :endDate order by d.date asc, d.id asc")
+    List<DiaryView> findViewsByDateBetween(@Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate);
+
+    @Query("select new faithcoderlab.dailyweatherlog.model.DiaryView(d.id, d.date, d.weather, d.temperature, d.version) "
+            + "from Diary d where d.date between :startDate and :endDate order by d.date asc, d.id asc")
+    List<DiaryView> findViewsWithoutTextByDateBetween(@Param("startDate") LocalDate startDate,
+                                                      @Param("endDate") LocalDate endDate);
+
+    @Query("select new faithcoderlab.dailyweatherlog.model.DiaryView(d.id, d.date, d.text, d.weather, d.temperature, d.version) "
+            + "from Diary d where d.id in :ids")
+    List<DiaryView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 검색 색인 재생성용. 기본 키 순서의 keyset 페이지로 전체를 나눠 읽는다.
+     */
+    @Query("select new faithcoderlab.dailyweatherlog.model.DiaryView(d.id, d.date, d.text, d.weather, d.temperature, d.version) "
+            + "from Diary d where d.id > :afterId order by d.id asc")
+    List<DiaryView> findViewsAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select min(d.date) from Diary d")
+    LocalDate findMinDate();
+
+    @Query("select max(d.date) from Diary d")
+    LocalDate findMaxDate();
+
+    /**
+     * 날짜의 첫 번째 일기 id 를 (date, id) 인덱스만으로 찾는다.
+     */
+    @Query("select min(d.id) from Diary d where d.date = :date")
+    Optional<Long> findFirstIdByDate(@Param("date") LocalDate date);
+
+    @Query("select d.date from Diary d where d.id = :id")
+    Optional<LocalDate> findDateById(@Param("id") Long id);
+
+    /**
+     * 엔티티를 읽지 않고 UPDATE 한 문장으로 내용을 바꾸고 버전을 올린다.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Diary d set d.text = :text, d.version = d.version + 1 where d.id = :id")
+    int updateText(@Param("id") Long id, @Param("text") String text);
+
+    /**
+     * 버전이 일치할 때만 바꾼다. 0 을 돌려주면 행이 없거나 다른 요청이 먼저 수정한 것이다.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Diary d set d.text = :text, d.version = d.version + 1 where d.id = :id and d.version = :version")
+    int updateTextIfVersion(@Param("id") Long id, @Param("version") Long version, @Param("text") String text);
+
+    /**
+     * 기간 삭제를 청크로 나누기 위해 (date, id) 인덱스만으로 id 를 읽는다.
+     */
+    @Query("select d.id from Diary d where d.date between :startDate and :endDate order by d.date asc, d.id asc")
+    List<Long> findIdsByDateBetween(@Param("startDate") LocalDate startDate,
+                                    @Param("endDate") LocalDate endDate,
+                                    Pageable pageable);
+
+    /**
+     * (date, id) keyset 페이지네이션의 첫 페이지. 엔티티 대신 DiaryView 로 바로 읽는다.
+     */
+    @Query("select new faithcoderlab.dailyweatherlog.model.DiaryView(d.id, d.date, d.text, d.weather, d.temperature, d.version) "
+            + "from Diary d where d.date between :startDate and :endDate order by d.date asc, d.id asc")
+    List<DiaryView> findViewPage(@Param("startDate") LocalDate startDate,
+                                 @Param("endDate") LocalDate endDate,
+                                 Pageable pageable);
+
+    /**
+     * (afterDate, afterId) 다음 위치부터 이어서 읽는다.
+     */
+    @Query("select new faithcoderlab.dailyweatherlog.model.DiaryView(d.id, d.date, d.text, d.weather, d.temperature, d.version) "
+            + "from Diary d "
+            + "where d.date between :startDate and :endDate "
+            + "and (d.date > :afterDate or (d.date = :afterDate and d.id > :afterId)) "
+            + "order by d.date asc, d.id asc")
+    List<DiaryView> findViewPageAfter(@Param("startDate") LocalDate startDate,
+                                      @Param("endDate") LocalDate endDate,
+                                      @Param("afterDate") LocalDate afterDate,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select d from Diary d order by d.date asc, d.id asc")
+    Stream<Diary> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select d from Diary d where d.date between :startDate and :endDate order by d.date asc, d.id asc")
+    Stream<Diary> streamAllByDateBetween(@Param("startDate") LocalDate startDate,
+                                         @Param("endDate") LocalDate endDate);
 }
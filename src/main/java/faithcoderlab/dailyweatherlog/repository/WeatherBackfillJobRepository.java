@@ -0,0 +1,10 @@
+package faithcoderlab.dailyweatherlog.repository;
+
+import faithcoderlab.dailyweatherlog.model.WeatherBackfillJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface WeatherBackfillJobRepository extends JpaRepository<WeatherBackfillJob, Long> {
+    List<WeatherBackfillJob> findAllByStatus(WeatherBackfillJob.Status status);
+}
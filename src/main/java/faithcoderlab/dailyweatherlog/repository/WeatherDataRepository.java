@@ -2,10 +2,55 @@ package faithcoderlab.dailyweatherlog.repository;
 
 import faithcoderlab.dailyweatherlog.model.WeatherData;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface WeatherDataRepository extends JpaRepository<WeatherData, Long> {
-    Optional<WeatherData> findByDate(LocalDate date);
+    @Transactional(readOnly = true)
+    Optional<WeatherData> findByCityAndDate(String city, LocalDate date);
+
+    @Transactional(readOnly = true)
+    Optional<WeatherData> findFirstByCityAndDateLessThanOrderByDateDesc(String city, LocalDate date);
+
+    @Transactional(readOnly = true)
+    Optional<WeatherData> findFirstByCityAndDateGreaterThanOrderByDateAsc(String city, LocalDate date);
+
+    List<WeatherData> findAllByDateAndCityIn(LocalDate date, Collection<String> cities);
+
+    @Transactional(readOnly = true)
+    long countByDateAndCityIn(LocalDate date, Collection<String> cities);
+
+    List<WeatherData> findAllByCityInAndDateBetween(Collection<String> cities, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 범위 안에 이미 저장된 (도시, 날짜) 키만 한 번의 쿼리로 읽는다. 백필의 누락 날짜 계산에 쓴다.
+     */
+    @Transactional(readOnly = true)
+    List<CityDate> findByCityInAndDateBetween(Collection<String> cities, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 데이터가 있는 (도시, 월) 마다 그 달의 가장 이른 날짜를 [city, date] 로 돌려준다. 통계 재계산에 쓴다.
+     */
+    @Transactional(readOnly = true)
+    @Query("select w.city, min(w.date) from WeatherData w group by w.city, year(w.date), month(w.date)")
+    List<Object[]> findCityMonths();
+
+    @Transactional(readOnly = true)
+    @Query("select distinct w.city from WeatherData w")
+    List<String> findDistinctCities();
+
+    /**
+     * 도시의 날짜별 기온만 읽는다. 기동 시 기온 시계열을 채우는 데 쓴다.
+     */
+    @Transactional(readOnly = true)
+    List<DateTemperature> findByCity(String city);
+
+    record CityDate(String city, LocalDate date) {}
+
+    record DateTemperature(LocalDate date, Double temperature) {}
 }
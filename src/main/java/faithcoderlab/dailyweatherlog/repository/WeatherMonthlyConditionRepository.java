@@ -0,0 +1,31 @@
+package faithcoderlab.dailyweatherlog.repository;
+
+import faithcoderlab.dailyweatherlog.model.WeatherMonthlyCondition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface WeatherMonthlyConditionRepository extends JpaRepository<WeatherMonthlyCondition, Long> {
+    List<WeatherMonthlyCondition> findAllByCityAndMonthStartBetweenOrderByMonthStartAscDayCountDesc(String city, LocalDate startMonth, LocalDate endMonth);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from WeatherMonthlyCondition c where c.city = :city and c.monthStart = :monthStart")
+    int deleteByCityAndMonthStart(@Param("city") String city, @Param("monthStart") LocalDate monthStart);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into weather_monthly_condition (city, month_start, weather, day_count) "
+            + "select city, :monthStart, weather, count(*) "
+            + "from weather_data where city = :city and date between :monthStart and :monthEnd group by city, weather",
+            nativeQuery = true)
+    int insertAggregated(@Param("city") String city,
+                         @Param("monthStart") LocalDate monthStart,
+                         @Param("monthEnd") LocalDate monthEnd);
+
+    @Modifying
+    @Query("delete from WeatherMonthlyCondition c")
+    int deleteAllRows();
+}
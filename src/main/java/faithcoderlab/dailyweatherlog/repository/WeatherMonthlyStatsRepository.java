@@ -0,0 +1,35 @@
+package faithcoderlab.dailyweatherlog.repository;
+
+import faithcoderlab.dailyweatherlog.model.WeatherMonthlyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface WeatherMonthlyStatsRepository extends JpaRepository<WeatherMonthlyStats, Long> {
+    List<WeatherMonthlyStats> findAllByCityAndMonthStartBetweenOrderByMonthStartAsc(String city, LocalDate startMonth, LocalDate endMonth);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from WeatherMonthlyStats s where s.city = :city and s.monthStart = :monthStart")
+    int deleteByCityAndMonthStart(@Param("city") String city, @Param("monthStart") LocalDate monthStart);
+
+    /**
+     * 한 도시의 한 달을 weather_data 에서 다시 집계해 넣는다. 읽는 행은 최대 31개다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into weather_monthly_stats "
+            + "(city, month_start, min_temperature, max_temperature, temperature_sum, day_count) "
+            + "select city, :monthStart, min(temperature), max(temperature), sum(temperature), count(*) "
+            + "from weather_data where city = :city and date between :monthStart and :monthEnd group by city",
+            nativeQuery = true)
+    int insertAggregated(@Param("city") String city,
+                         @Param("monthStart") LocalDate monthStart,
+                         @Param("monthEnd") LocalDate monthEnd);
+
+    @Modifying
+    @Query("delete from WeatherMonthlyStats s")
+    int deleteAllRows();
+}
@@ -0,0 +1,13 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import java.time.LocalDate;
+
+/**
+ * 일기가 생성, 수정, 삭제된 날짜 범위. DiaryService 가 발행하며 트랜잭션 커밋 뒤에 처리된다.
+ */
+public record DiaryChangedEvent(LocalDate startDate, LocalDate endDate) {
+
+    public static DiaryChangedEvent of(LocalDate date) {
+        return new DiaryChangedEvent(date, date);
+    }
+}
@@ -0,0 +1,221 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import faithcoderlab.dailyweatherlog.model.DiaryView;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 일기 내용의 역색인. 문서는 일기 한 건이며 id 만 저장하고, 본문은 CJK bigram 으로 분석해 색인만 한다.
+ * 변경은 날짜 단위로 반영한다: 날짜 범위의 문서를 지우고 DB 에 남아 있는 일기로 다시 채운다.
+ * 검색은 near-real-time reader 로 하므로 commit 전의 변경도 refresh 뒤에는 보인다.
+ */
+class DiarySearchIndex implements AutoCloseable {
+
+    static final String ID = "id";
+    static final String DATE = "date";
+    static final String WEATHER = "weather";
+    static final String TEXT = "text";
+
+    private final Path directoryPath;
+    private final Analyzer analyzer = new CJKAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    DiarySearchIndex(Path directoryPath) {
+        this.directoryPath = directoryPath;
+        try {
+            Files.createDirectories(directoryPath);
+            this.directory = FSDirectory.open(directoryPath);
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open diary search index: " + directoryPath, e);
+        }
+    }
+
+    /**
+     * 날짜 범위의 문서를 모두 지우고 주어진 일기로 바꾼다. diaries 는 그 범위에 현재 남아 있는 일기 전부여야 한다.
+     */
+    void replaceDates(LocalDate startDate, LocalDate endDate, Collection<DiaryView> diaries) {
+        try {
+            writer.deleteDocuments(LongPoint.newRangeQuery(DATE, startDate.toEpochDay(), endDate.toEpochDay()));
+            for (DiaryView diary : diaries) {
+                writer.addDocument(toDocument(diary));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to update diary search index: " + directoryPath, e);
+        }
+    }
+
+    /**
+     * 재색인용. refresh 는 하지 않으므로 끝나면 refresh 를 부른다.
+     */
+    void add(Collection<DiaryView> diaries) {
+        try {
+            for (DiaryView diary : diaries) {
+                writer.addDocument(toDocument(diary));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to update diary search index: " + directoryPath, e);
+        }
+    }
+
+    void deleteAll() {
+        try {
+            writer.deleteAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to clear diary search index: " + directoryPath, e);
+        }
+    }
+
+    void refresh() {
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to refresh diary search index: " + directoryPath, e);
+        }
+    }
+
+    /**
+     * 변경을 디스크에 확정한다. 바뀐 것이 없으면 아무것도 하지 않는다.
+     */
+    void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to commit diary search index: " + directoryPath, e);
+        }
+    }
+
+    /**
+     * 모든 검색어 토큰을 포함하는 일기를 점수 순으로 찾는다. 날짜 범위와 날씨는 점수에 영향을 주지 않는 필터다.
+     * 검색어에서 토큰이 하나도 나오지 않으면 빈 결과를 돌려준다.
+     */
+    Hits search(String query, LocalDate startDate, LocalDate endDate, String weather, int limit) {
+        List<String> tokens = analyze(query);
+        if (tokens.isEmpty()) {
+            return new Hits(List.of(), 0);
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (String token : tokens) {
+            builder.add(new TermQuery(new Term(TEXT, token)), BooleanClause.Occur.MUST);
+        }
+        if (startDate != null || endDate != null) {
+            long from = startDate == null ? Long.MIN_VALUE : startDate.toEpochDay();
+            long to = endDate == null ? Long.MAX_VALUE : endDate.toEpochDay();
+            builder.add(LongPoint.newRangeQuery(DATE, from, to), BooleanClause.Occur.FILTER);
+        }
+        if (weather != null && !weather.isBlank()) {
+            builder.add(new TermQuery(new Term(WEATHER, normalizeWeather(weather))), BooleanClause.Occur.FILTER);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(builder.build(), limit);
+                List<Long> ids = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    ids.add(searcher.storedFields().document(scoreDoc.doc).getField(ID).numericValue().longValue());
+                }
+                return new Hits(ids, topDocs.totalHits.value);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to search diary index: " + directoryPath, e);
+        }
+    }
+
+    /**
+     * 현재 reader 기준 문서 수. 지워진 문서는 세지 않는다.
+     */
+    int docCount() {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return searcher.getIndexReader().numDocs();
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read diary search index: " + directoryPath, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private Document toDocument(DiaryView diary) {
+        Document document = new Document();
+        document.add(new StoredField(ID, diary.id()));
+        document.add(new LongPoint(DATE, diary.date().toEpochDay()));
+        if (diary.weather() != null) {
+            document.add(new StringField(WEATHER, normalizeWeather(diary.weather()), Field.Store.NO));
+        }
+        if (diary.text() != null) {
+            document.add(new TextField(TEXT, diary.text(), Field.Store.NO));
+        }
+        return document;
+    }
+
+    private List<String> analyze(String query) {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(TEXT, query)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to analyze search query", e);
+        }
+        return tokens;
+    }
+
+    private static String normalizeWeather(String weather) {
+        return weather.trim().toLowerCase(Locale.ROOT);
+    }
+
+    record Hits(List<Long> ids, long totalHits) {}
+}
@@ -0,0 +1,197 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import faithcoderlab.dailyweatherlog.exception.InvalidRequestException;
+import faithcoderlab.dailyweatherlog.model.DiaryView;
+import faithcoderlab.dailyweatherlog.repository.DiaryRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 일기 내용 검색. 로컬 디스크의 Lucene 색인을 DiaryChangedEvent 로 날짜 단위 갱신하고, 검색 결과는 id 로 DB 에서 읽는다.
+ * 색인 갱신과 재생성은 한 스레드에서 순서대로 처리하므로 재생성 중에 들어온 변경도 재생성이 끝난 뒤 반영된다.
+ * 변경은 바로 검색에 보이지만 디스크 확정은 commit-interval 마다 하며, 그 사이에 죽으면 기동 시 건수를 비교해 다시 만든다.
+ * 변경된 날짜는 방금 커밋된 행을 읽어야 하므로 replica 가 아니라 primary 에서 읽는다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "diary.search.enabled", havingValue = "true", matchIfMissing = true)
+public class DiarySearchService {
+
+    private final DiaryRepository diaryRepository;
+    private final DiarySearchIndex index;
+    private final Executor indexExecutor;
+    private final TransactionOperations primaryReads;
+    private final int maxSize;
+    private final int rebuildBatchSize;
+
+    @Autowired
+    public DiarySearchService(
+            DiaryRepository diaryRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${diary.search.index-dir:./data/diary-index}") Path indexDir,
+            @Value("${diary.search.max-size:100}") int maxSize,
+            @Value("${diary.search.rebuild-batch-size:1000}") int rebuildBatchSize
+    ) {
+        this(diaryRepository, new DiarySearchIndex(indexDir), Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "diary-search-index");
+            thread.setDaemon(true);
+            return thread;
+        }), new TransactionTemplate(transactionManager), maxSize, rebuildBatchSize);
+    }
+
+    DiarySearchService(
+            DiaryRepository diaryRepository, DiarySearchIndex index, Executor indexExecutor,
+            TransactionOperations primaryReads, int maxSize, int rebuildBatchSize
+    ) {
+        this.diaryRepository = diaryRepository;
+        this.index = index;
+        this.indexExecutor = indexExecutor;
+        this.primaryReads = primaryReads;
+        this.maxSize = maxSize;
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 일기를 관련도 순으로 돌려준다. 기간과 날씨는 선택 조건이다.
+     */
+    @Transactional(readOnly = true)
+    public SearchResult search(String query, LocalDate startDate, LocalDate endDate, String weather, int size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("검색어를 입력해 주세요");
+        }
+        if (size < 1 || size > maxSize) {
+            throw new InvalidRequestException("검색 결과 수는 1 이상 " + maxSize + " 이하여야 합니다");
+        }
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new InvalidRequestException("시작 날짜가 종료 날짜보다 늦습니다");
+        }
+
+        DiarySearchIndex.Hits hits = index.search(query, startDate, endDate, weather, size);
+        if (hits.ids().isEmpty()) {
+            return new SearchResult(hits.totalHits(), List.of());
+        }
+
+        // 색인 반영 전에 지워진 일기는 DB 에 없으므로 건너뛴다.
+        Map<Long, DiaryView> views = diaryRepository.findViewsByIdIn(hits.ids()).stream()
+                .collect(Collectors.toMap(DiaryView::id, Function.identity()));
+        List<DiaryView> diaries = new ArrayList<>(hits.ids().size());
+        for (Long id : hits.ids()) {
+            DiaryView view = views.get(id);
+            if (view != null) {
+                diaries.add(view);
+            }
+        }
+        return new SearchResult(hits.totalHits(), diaries);
+    }
+
+    /**
+     * 커밋된 뒤에 바뀐 날짜의 일기를 다시 읽어 색인을 갱신한다. 요청 스레드는 기다리지 않는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDiaryChanged(DiaryChangedEvent event) {
+        indexExecutor.execute(() -> reindex(event.startDate(), event.endDate()));
+    }
+
+    /**
+     * 색인을 비우고 diary 테이블 전체로 다시 만든다. 완료되면 색인한 일기 수로 끝난다.
+     */
+    public CompletableFuture<Integer> rebuild() {
+        return CompletableFuture.supplyAsync(this::rebuildIndex, indexExecutor);
+    }
+
+    /**
+     * 색인 파일이 없거나 마지막 commit 뒤의 변경을 잃었으면 건수가 달라지므로 다시 만든다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyOnStartup() {
+        indexExecutor.execute(() -> {
+            long diaryCount = diaryRepository.count();
+            int indexed = index.docCount();
+            if (indexed != diaryCount) {
+                log.info("Diary search index has {} documents but {} diaries exist, rebuilding", indexed, diaryCount);
+                rebuildIndex();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${diary.search.commit-interval-ms:5000}")
+    public void commit() {
+        index.commit();
+    }
+
+    @PreDestroy
+    void shutdown() throws IOException, InterruptedException {
+        if (indexExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+            executorService.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        index.commit();
+        index.close();
+    }
+
+    /**
+     * 색인 스레드에는 요청이 없어 ReplicaLagGuard 가 primary 로 보내지 않는다. 읽기 전용이 아닌 트랜잭션으로 읽어
+     * primary 에서 방금 커밋된 행을 보게 한다. replica 에서 읽으면 지연된 만큼 빠진 색인이 다음 변경까지 남는다.
+     */
+    void reindex(LocalDate startDate, LocalDate endDate) {
+        try {
+            List<DiaryView> diaries = primaryReads.execute(status -> diaryRepository.findViewsByDateBetween(startDate, endDate));
+            index.replaceDates(startDate, endDate, diaries);
+        } catch (RuntimeException e) {
+            // 놓친 변경은 기동 시 건수 비교나 재생성 API 로 바로잡는다.
+            log.error("Failed to update diary search index between {} and {}: {}", startDate, endDate, e.getMessage(), e);
+        }
+    }
+
+    int rebuildIndex() {
+        long startedAt = System.nanoTime();
+        index.deleteAll();
+
+        int count = 0;
+        long afterId = 0;
+        while (true) {
+            List<DiaryView> page = diaryRepository.findViewsAfterId(afterId, PageRequest.of(0, rebuildBatchSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            index.add(page);
+            count += page.size();
+            afterId = page.get(page.size() - 1).id();
+        }
+
+        index.commit();
+        index.refresh();
+        log.info("Rebuilt diary search index with {} diaries in {} ms",
+                count, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return count;
+    }
+
+    public record SearchResult(long totalHits, List<DiaryView> diaries) {}
+}
@@ -1,28 +1,77 @@
 package faithcoderlab.dailyweatherlog.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import faithcoderlab.dailyweatherlog.exception.DiaryVersionConflictException;
+import faithcoderlab.dailyweatherlog.exception.InvalidRequestException;
 import faithcoderlab.dailyweatherlog.model.Diary;
+import faithcoderlab.dailyweatherlog.model.DiaryColumns;
+import faithcoderlab.dailyweatherlog.model.DiaryView;
 import faithcoderlab.dailyweatherlog.repository.DiaryRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DiaryService {
 
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+
     private final DiaryRepository diaryRepository;
     private final WeatherService weatherService;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StatisticsService statisticsService;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Value("${diary.page.default-size:100}")
+    private int defaultPageSize;
+
+    @Value("${diary.page.max-size:1000}")
+    private int maxPageSize;
+
+    @Value("${diary.delete.chunk-size:1000}")
+    private int deleteChunkSize;
+
+    /**
+     * 날씨 조회(캐시 미스 시 외부 API 호출)는 트랜잭션 밖에서 하고, INSERT 와 집계 갱신만 한 트랜잭션으로 수행한다.
+     * 느린 업스트림을 기다리는 동안 DB 커넥션을 점유하지 않고, INSERT 가 실패하면 일기 수와 버전도 함께 롤백된다.
+     */
     public void createDiary(LocalDate date, String text) {
         log.info("Creating diary entry for date: {}", date);
 
         WeatherService.WeatherDto weatherData = weatherService.getWeatherData(date);
+        if (weatherData.stale()) {
+            log.warn("Creating diary for date {} with stale weather data", date);
+        }
 
         Diary diary = Diary.builder()
                 .date(date)
@@ -31,48 +80,252 @@ public class DiaryService {
                 .temperature(weatherData.temperature())
                 .build();
 
-        diaryRepository.save(diary);
+        saveCreated(diary);
         log.info("Diary entry created successfully for date: {}", date);
     }
 
+    /**
+     * 여러 일기를 한 번에 저장한다. 날씨는 날짜별로 한 번만, 트랜잭션을 열기 전에 모두 조회한다.
+     * INSERT 와 집계 갱신만 한 트랜잭션에서 batchSize 단위로 flush/clear 하여 JDBC 배치 INSERT 로 내보낸다.
+     */
+    public int createDiaries(List<DiaryEntry> entries) {
+        if (entries == null || entries.isEmpty()) {
+            throw new InvalidRequestException("저장할 일기가 없습니다");
+        }
+        log.info("Creating {} diary entries in batch", entries.size());
+
+        Map<LocalDate, WeatherService.WeatherDto> weatherByDate = new HashMap<>();
+        Map<LocalDate, Integer> countByDate = new HashMap<>();
+
+        for (DiaryEntry entry : entries) {
+            if (entry == null || entry.date() == null || entry.text() == null) {
+                throw new InvalidRequestException("일기의 날짜와 내용은 필수입니다: " + entry);
+            }
+            weatherByDate.computeIfAbsent(entry.date(), weatherService::getWeatherData);
+            countByDate.merge(entry.date(), 1, Integer::sum);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Diary> batch = new ArrayList<>(batchSize);
+            for (DiaryEntry entry : entries) {
+                WeatherService.WeatherDto weatherData = weatherByDate.get(entry.date());
+                batch.add(Diary.builder()
+                        .date(entry.date())
+                        .text(entry.text())
+                        .weather(weatherData.description())
+                        .temperature(weatherData.temperature())
+                        .build());
+
+                if (batch.size() >= batchSize) {
+                    flushBatch(batch);
+                }
+            }
+            flushBatch(batch);
+
+            statisticsService.recordDiariesCreated(countByDate);
+            weatherByDate.keySet().forEach(date -> eventPublisher.publishEvent(DiaryChangedEvent.of(date)));
+        });
+
+        log.info("Created {} diary entries for {} distinct dates", entries.size(), weatherByDate.size());
+        return entries.size();
+    }
+
+    @Transactional(readOnly = true)
+    public List<DiaryView> readDiary(LocalDate date) {
+        return readDiary(date, true);
+    }
+
+    /**
+     * 엔티티 대신 DiaryView 로 바로 조회한다. includeText 가 false 면 text 컬럼을 읽지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public List<DiaryView> readDiary(LocalDate date, boolean includeText) {
+        log.info("Reading diary entries for date: {} (text: {})", date, includeText);
+        return includeText
+                ? diaryRepository.findViewsByDate(date)
+                : diaryRepository.findViewsWithoutTextByDate(date);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DiaryView> readDiaries(LocalDate startDate, LocalDate endDate) {
+        return readDiaries(startDate, endDate, true);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DiaryView> readDiaries(LocalDate startDate, LocalDate endDate, boolean includeText) {
+        log.info("Reading diary entries from {} to {} (text: {})", startDate, endDate, includeText);
+        return includeText
+                ? diaryRepository.findViewsByDateBetween(startDate, endDate)
+                : diaryRepository.findViewsWithoutTextByDateBetween(startDate, endDate);
+    }
+
+    /**
+     * 기간 조회와 같은 결과를 필드별 배열로 돌려준다.
+     */
     @Transactional(readOnly = true)
-    public List<Diary> readDiary(LocalDate date) {
-        log.info("Reading diary entries for date: {}", date);
-        return diaryRepository.findAllByDate(date);
+    public DiaryColumns readDiaryColumns(LocalDate startDate, LocalDate endDate, boolean includeText) {
+        log.info("Reading diary columns from {} to {} (text: {})", startDate, endDate, includeText);
+        List<DiaryView> diaries = includeText
+                ? diaryRepository.findViewsByDateBetween(startDate, endDate)
+                : diaryRepository.findViewsWithoutTextByDateBetween(startDate, endDate);
+        return DiaryColumns.from(diaries, includeText);
+    }
+
+    /**
+     * (date, id) 기준 keyset 페이지네이션. cursor 는 이전 페이지 마지막 일기의 위치를 담은 불투명 토큰이다.
+     * 엔티티를 읽지 않고 DiaryView 프로젝션으로 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public DiaryPage readDiaryPage(LocalDate startDate, LocalDate endDate, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        log.info("Reading diary page from {} to {} (size: {})", startDate, endDate, pageSize);
+
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<DiaryView> diaries;
+
+        if (cursor == null || cursor.isBlank()) {
+            diaries = diaryRepository.findViewPage(startDate, endDate, limit);
+        } else {
+            Cursor position = decodeCursor(cursor);
+            diaries = diaryRepository.findViewPageAfter(startDate, endDate, position.date(), position.id(), limit);
+        }
+
+        if (diaries.size() <= pageSize) {
+            return new DiaryPage(diaries, null);
+        }
+
+        List<DiaryView> page = diaries.subList(0, pageSize);
+        DiaryView last = page.get(pageSize - 1);
+        return new DiaryPage(page, encodeCursor(new Cursor(last.date(), last.id())));
     }
 
+    /**
+     * 일기를 한 줄에 하나씩 JSON(NDJSON)으로 내보낸다. 조회 결과를 리스트로 모으지 않고
+     * 커서로 읽으면서 쓰고, 쓴 엔티티는 바로 영속성 컨텍스트에서 분리해 메모리 사용량을 일정하게 유지한다.
+     * startDate, endDate 가 모두 null 이면 전체 일기를 내보낸다.
+     */
     @Transactional(readOnly = true)
-    public List<Diary> readDiaries(LocalDate startDate, LocalDate endDate) {
-        log.info("Reading diary entries from {} to {}", startDate, endDate);
-        return diaryRepository.findAllByDateBetween(startDate, endDate);
+    public long exportDiaries(LocalDate startDate, LocalDate endDate, OutputStream outputStream) throws IOException {
+        log.info("Exporting diary entries from {} to {}", startDate, endDate);
+
+        ObjectWriter writer = objectMapper.writerFor(Diary.class)
+                .without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long exported = 0;
+
+        try (Stream<Diary> diaries = startDate == null && endDate == null
+                ? diaryRepository.streamAll()
+                : diaryRepository.streamAllByDateBetween(startDate, endDate);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<Diary> iterator = diaries.iterator();
+            while (iterator.hasNext()) {
+                Diary diary = iterator.next();
+                writer.writeValue(generator, diary);
+                generator.writeRaw('\n');
+                entityManager.detach(diary);
+
+                if (++exported % EXPORT_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+
+        log.info("Exported {} diary entries", exported);
+        return exported;
     }
 
+    /**
+     * 날짜의 첫 번째 일기를 수정한다. 버전 확인 없이 마지막 요청이 반영된다.
+     */
     @Transactional
     public void updateDiary(LocalDate date, String text) {
         log.info("Updating first diary entry for date: {}", date);
-        List<Diary> diaryList = diaryRepository.findAllByDate(date);
-
-        if (diaryList.isEmpty()) {
-            log.error("No diary found for date: {}", date);
-            throw new RuntimeException("해당 날짜의 일기가 존재하지 않습니다: " + date);
-        }
+        Long id = diaryRepository.findFirstIdByDate(date)
+                .orElseThrow(() -> {
+                    log.error("No diary found for date: {}", date);
+                    return new RuntimeException("해당 날짜의 일기가 존재하지 않습니다: " + date);
+                });
 
-        Diary firstDiary = diaryList.get(0);
+        diaryRepository.updateText(id, text);
+        statisticsService.recordDiaryUpdated(date);
+        eventPublisher.publishEvent(DiaryChangedEvent.of(date));
+        log.info("Diary entry {} updated successfully for date: {}", id, date);
+    }
 
-        firstDiary.setText(text);
+    /**
+     * 조회 시 받은 version 과 저장된 version 이 같을 때만 수정한다.
+     * 다른 요청이 먼저 수정했다면 덮어쓰지 않고 DiaryVersionConflictException 을 던진다.
+     */
+    @Transactional
+    public void updateDiary(Long id, Long version, String text) {
+        log.info("Updating diary {} at version {}", id, version);
+        int updated = diaryRepository.updateTextIfVersion(id, version, text);
 
-        diaryRepository.save(firstDiary);
-        log.info("Diary entry updated successfully for date: {}", date);
+        if (updated == 0) {
+            if (!diaryRepository.existsById(id)) {
+                log.error("No diary found for id: {}", id);
+                throw new RuntimeException("해당 일기가 존재하지 않습니다: " + id);
+            }
+            log.warn("Diary {} was modified concurrently, expected version {}", id, version);
+            throw new DiaryVersionConflictException("다른 요청이 먼저 일기를 수정했습니다. 다시 조회한 뒤 수정해 주세요");
+        }
+        diaryRepository.findDateById(id).ifPresent(date -> {
+            statisticsService.recordDiaryUpdated(date);
+            eventPublisher.publishEvent(DiaryChangedEvent.of(date));
+        });
+        log.info("Diary entry {} updated successfully", id);
     }
 
     @Transactional
     public void deleteDiary(LocalDate date) {
         log.info("Deleting all diary entries for date: {}", date);
-        diaryRepository.deleteAllByDate(date);
-        log.info("Diary entry deleted successfully for date: {}", date);
+        int deleted = diaryRepository.deleteAllByDate(date);
+        if (deleted > 0) {
+            statisticsService.recountDiaries(date, date);
+            eventPublisher.publishEvent(DiaryChangedEvent.of(date));
+        }
+        log.info("Deleted {} diary entries for date: {}", deleted, date);
+    }
+
+    /**
+     * 기간 안의 일기를 deleteChunkSize 건씩 나눠 지운다. 청크마다 id 조회 한 번, IN 조건 DELETE 한 번이며
+     * 청크마다 별도 트랜잭션으로 커밋하므로 보존 기간 정리 중에도 긴 잠금을 잡지 않는다.
+     */
+    public DeleteResult deleteDiaries(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            throw new InvalidRequestException("삭제 기간이 올바르지 않습니다");
+        }
+        log.info("Deleting diary entries from {} to {} in chunks of {}", startDate, endDate, deleteChunkSize);
+
+        Pageable chunk = PageRequest.of(0, deleteChunkSize);
+        int deleted = 0;
+        int chunks = 0;
+        List<Long> ids;
+
+        try {
+            do {
+                ids = diaryRepository.findIdsByDateBetween(startDate, endDate, chunk);
+                if (!ids.isEmpty()) {
+                    diaryRepository.deleteAllByIdInBatch(ids);
+                    deleted += ids.size();
+                    chunks++;
+                }
+            } while (ids.size() == deleteChunkSize);
+        } finally {
+            // 중간에 실패해도 이미 커밋된 청크가 있으므로 기간 전체를 변경된 것으로 알린다.
+            if (deleted > 0) {
+                statisticsService.recountDiaries(startDate, endDate);
+                eventPublisher.publishEvent(new DiaryChangedEvent(startDate, endDate));
+            }
+        }
+
+        log.info("Deleted {} diary entries from {} to {} in {} chunks", deleted, startDate, endDate, chunks);
+        return new DeleteResult(deleted);
     }
 
-    @Transactional
     public void createWeatherDiary(LocalDate date) {
         log.info("Creating weather diary entry for date: {}", date);
 
@@ -85,7 +338,61 @@ public class DiaryService {
                 .temperature(weatherData.temperature())
                 .build();
 
-        diaryRepository.save(diary);
+        saveCreated(diary);
         log.info("Weather diary entry created successfully for date: {}", date);
     }
+
+    /**
+     * 일기 INSERT 와 날짜별 일기 수 갱신을 한 트랜잭션으로 묶는다. 날씨는 호출 전에 조회해 둬야 한다.
+     */
+    private void saveCreated(Diary diary) {
+        transactionTemplate.executeWithoutResult(status -> {
+            diaryRepository.save(diary);
+            statisticsService.recordDiariesCreated(Map.of(diary.getDate(), 1));
+            eventPublisher.publishEvent(DiaryChangedEvent.of(diary.getDate()));
+        });
+    }
+
+    private void flushBatch(List<Diary> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        diaryRepository.saveAll(batch);
+        entityManager.flush();
+        entityManager.clear();
+        batch.clear();
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size <= 0 || size > maxPageSize) {
+            throw new InvalidRequestException("페이지 크기는 1 이상 " + maxPageSize + " 이하여야 합니다: " + size);
+        }
+        return size;
+    }
+
+    static String encodeCursor(Cursor cursor) {
+        String raw = cursor.date() + ":" + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new Cursor(LocalDate.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestException("잘못된 페이지 커서입니다: " + cursor, e);
+        }
+    }
+
+    public record DiaryEntry(LocalDate date, String text) {}
+
+    public record DiaryPage(List<DiaryView> diaries, String nextCursor) {}
+
+    public record DeleteResult(int deletedCount) {}
+
+    record Cursor(LocalDate date, Long id) {}
 }
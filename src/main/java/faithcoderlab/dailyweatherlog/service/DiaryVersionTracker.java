@@ -0,0 +1,58 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import faithcoderlab.dailyweatherlog.repository.DiaryDailyCountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.function.Function;
+
+/**
+ * diary_daily_count 의 날짜별 version 과 last_modified 로 조회 API 의 ETag 와 Last-Modified 를 만든다.
+ * 두 값은 일기를 바꾸는 트랜잭션 안에서 StatisticsService 가 올리므로, 같은 DB 를 쓰는 모든 인스턴스가 같은 버전을 본다.
+ * 조회 비용은 기간의 날짜 수에 비례하며 diary 테이블은 읽지 않는다.
+ * 본문을 replica 에서 읽는다면 버전도 같은 스냅샷에서 읽어야 하므로, 조회 API 는 readVersioned 로 둘을 한 트랜잭션에서 읽는다.
+ * 기간 삭제는 청크마다 커밋한 뒤 마지막에 버전을 올리므로, 삭제가 진행되는 동안에는 이전 ETag 가 남을 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DiaryVersionTracker {
+
+    private final DiaryDailyCountRepository diaryDailyCountRepository;
+
+    /**
+     * 버전 조회와 reader 의 본문 조회를 한 읽기 전용 트랜잭션에서 실행한다. InnoDB 기본 격리 수준(REPEATABLE READ)에서는
+     * 한 트랜잭션이 한 스냅샷을 읽으므로, replica 가 지연돼 있어도 ETag 는 실제로 읽은 본문의 버전이 된다.
+     * 격리 수준은 지정하지 않는다. replica 설정의 트랜잭션 후 커넥션 반환 모드에서는 HibernateJpaDialect 가 지정된 격리 수준을 거절한다.
+     * reader 안의 조회는 기본 전파(REQUIRED)로 이 트랜잭션에 참여해야 한다.
+     */
+    @Transactional(readOnly = true)
+    public <T> T readVersioned(LocalDate startDate, LocalDate endDate, Function<Version, T> reader) {
+        return reader.apply(getVersion(startDate, endDate));
+    }
+
+    /**
+     * 기간 안 날짜들의 version 합을 태그로, 가장 늦은 변경 시각을 Last-Modified 로 쓴다.
+     * 변경 기록이 없는 기간은 태그 0, 시각은 epoch 이다.
+     */
+    public Version getVersion(LocalDate startDate, LocalDate endDate) {
+        DiaryDailyCountRepository.VersionSummary summary = diaryDailyCountRepository.summarizeVersions(startDate, endDate);
+        Instant lastModified = summary.getLastModified() == null
+                ? Instant.EPOCH
+                : summary.getLastModified().toInstant(ZoneOffset.UTC);
+        return new Version(Long.toString(summary.getVersionSum(), 36), lastModified);
+    }
+
+    public record Version(String tag, Instant lastModified) {
+
+        /**
+         * 같은 데이터라도 표현(예: 내용 제외)이 다르면 다른 ETag 가 되도록 variant 를 붙인다.
+         */
+        public String eTag(String variant) {
+            return "W/\"" + tag + "-" + variant + "\"";
+        }
+    }
+}
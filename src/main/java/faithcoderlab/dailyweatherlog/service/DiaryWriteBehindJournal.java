@@ -0,0 +1,199 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 비동기 일기 저장 대기열의 로컬 저널. 접수(A), 저장 완료(C), 저장 포기(F) 기록을 한 줄씩 덧붙인다.
+ * 재시작 시 완료나 포기 기록이 없는 접수 건을 다시 읽어 대기열에 넣는다.
+ * 포기한 일기는 내용과 함께 저널 옆의 .failed 파일에도 남긴다. 이 파일은 비우지 않는다.
+ */
+@Slf4j
+class DiaryWriteBehindJournal implements AutoCloseable {
+
+    private static final String ACCEPTED = "A";
+    private static final String COMMITTED = "C";
+    private static final String FAILED = "F";
+
+    private final Path file;
+    private final Path failedFile;
+    private final boolean fsync;
+    private FileChannel channel;
+    private int outstanding;
+
+    DiaryWriteBehindJournal(Path file, boolean fsync) {
+        this.file = file;
+        this.failedFile = file.resolveSibling(file.getFileName() + ".failed");
+        this.fsync = fsync;
+    }
+
+    /**
+     * 저널을 읽어 아직 저장되지 않은 접수 건을 순서대로 돌려주고, 그 건들만 남도록 저널을 다시 쓴다.
+     */
+    synchronized List<DiaryWriteBehindService.PendingDiary> recover() {
+        Map<String, DiaryWriteBehindService.PendingDiary> pending = new LinkedHashMap<>();
+
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            if (Files.exists(file)) {
+                try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        String[] fields = line.split("\t");
+                        if (fields.length == 4 && ACCEPTED.equals(fields[0])) {
+                            pending.put(fields[1], new DiaryWriteBehindService.PendingDiary(
+                                    fields[1],
+                                    LocalDate.parse(fields[2]),
+                                    new String(Base64.getDecoder().decode(fields[3]), StandardCharsets.UTF_8)));
+                        } else if (fields.length == 2 && (COMMITTED.equals(fields[0]) || FAILED.equals(fields[0]))) {
+                            pending.remove(fields[1]);
+                        } else {
+                            // 쓰다가 중단된 마지막 줄은 건너뛴다.
+                            log.warn("Skipping malformed diary journal line in {}", file);
+                        }
+                    }
+                }
+            }
+
+            List<DiaryWriteBehindService.PendingDiary> recovered = new ArrayList<>(pending.values());
+            rewrite(recovered);
+            return recovered;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to recover diary journal: " + file, e);
+        }
+    }
+
+    synchronized void appendAccepted(DiaryWriteBehindService.PendingDiary diary) {
+        append(acceptedLine(diary));
+        outstanding++;
+    }
+
+    /**
+     * 저장 완료 기록을 남긴다. 남은 접수 건이 없으면 저널을 비워 파일이 계속 커지지 않게 한다.
+     */
+    synchronized void appendCommitted(Collection<DiaryWriteBehindService.PendingDiary> diaries) {
+        resolve(COMMITTED, diaries);
+    }
+
+    /**
+     * 저장을 포기한 일기를 .failed 파일에 접수 기록 형식 그대로 남긴 뒤, 저널에는 포기 기록을 남겨 재시작 시 다시 시도하지 않게 한다.
+     */
+    synchronized void appendFailed(DiaryWriteBehindService.PendingDiary diary) {
+        try (FileChannel failed = FileChannel.open(failedFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(acceptedLine(diary).getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                failed.write(buffer);
+            }
+            if (fsync) {
+                failed.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write diary dead-letter file: " + failedFile, e);
+        }
+        resolve(FAILED, List.of(diary));
+    }
+
+    /**
+     * 접수했지만 아직 저장 완료나 포기 기록이 없는 건수.
+     */
+    synchronized int getOutstanding() {
+        return outstanding;
+    }
+
+    Path getFailedFile() {
+        return failedFile;
+    }
+
+    private void resolve(String marker, Collection<DiaryWriteBehindService.PendingDiary> diaries) {
+        StringBuilder lines = new StringBuilder();
+        for (DiaryWriteBehindService.PendingDiary diary : diaries) {
+            lines.append(marker).append('\t').append(diary.id()).append('\n');
+        }
+        outstanding -= diaries.size();
+
+        try {
+            if (outstanding == 0) {
+                channel.truncate(0);
+                force();
+            } else {
+                append(lines.toString());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write diary journal: " + file, e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close diary journal {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void rewrite(List<DiaryWriteBehindService.PendingDiary> pending) throws IOException {
+        close();
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.deleteIfExists(temp);
+        channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        outstanding = 0;
+        for (DiaryWriteBehindService.PendingDiary diary : pending) {
+            appendAccepted(diary);
+        }
+        force();
+        channel.close();
+
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private static String acceptedLine(DiaryWriteBehindService.PendingDiary diary) {
+        String text = Base64.getEncoder().encodeToString(diary.text().getBytes(StandardCharsets.UTF_8));
+        return ACCEPTED + "\t" + diary.id() + "\t" + diary.date() + "\t" + text + "\n";
+    }
+
+    private void append(String lines) {
+        ByteBuffer buffer = ByteBuffer.wrap(lines.getBytes(StandardCharsets.UTF_8));
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            force();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write diary journal: " + file, e);
+        }
+    }
+
+    private void force() throws IOException {
+        if (fsync) {
+            channel.force(false);
+        }
+    }
+}
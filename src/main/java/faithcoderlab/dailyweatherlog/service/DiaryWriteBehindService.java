@@ -0,0 +1,321 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import faithcoderlab.dailyweatherlog.exception.InvalidRequestException;
+import faithcoderlab.dailyweatherlog.exception.WriteBehindQueueFullException;
+import faithcoderlab.dailyweatherlog.model.Diary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일기 작성을 비동기로 처리하는 write-behind 파이프라인.
+ * 요청 스레드는 저널에 기록하고 대기열에 넣기만 하며, 백그라운드 스레드가 모아서 날짜별 날씨를 붙여 배치 저장한다.
+ * 대기 중인 건수가 queue-capacity 에 닿으면 offer-timeout 동안 기다린 뒤 거절한다.
+ * DB 나 날씨 API 장애 같은 일시적 실패는 기다렸다가 같은 배치를 다시 저장하며 몇 번이든 포기하지 않는다.
+ * 일기 자체의 문제(검증, 제약 조건 위반)로 실패하면 배치를 반씩 나눠 그 일기를 찾고, 나머지는 계속 배치로 저장한다.
+ * 그런 일기가 max-attempts 번 실패하면 포기하고 저널의 .failed 파일로 옮긴다.
+ * 저장과 저널 완료 기록 사이에 프로세스가 죽으면 재시작 후 같은 일기가 한 번 더 저장될 수 있다(at-least-once).
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "diary.write-behind.enabled", havingValue = "true")
+public class DiaryWriteBehindService {
+
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofSeconds(30);
+
+    private final DiaryService diaryService;
+    private final DiaryWriteBehindJournal journal;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration flushInterval;
+    private final Duration offerTimeout;
+
+    private final BlockingQueue<PendingDiary> queue = new LinkedBlockingQueue<>();
+    private final Semaphore capacity;
+    private final Counter flushedCounter;
+    private final Counter deadLetteredCounter;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    @Autowired
+    public DiaryWriteBehindService(
+            DiaryService diaryService,
+            MeterRegistry meterRegistry,
+            @Value("${diary.write-behind.journal-file:./data/diary-write-behind.journal}") Path journalFile,
+            @Value("${diary.write-behind.journal-fsync:true}") boolean journalFsync,
+            @Value("${diary.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${diary.write-behind.batch-size:500}") int batchSize,
+            @Value("${diary.write-behind.max-attempts:10}") int maxAttempts,
+            @Value("${diary.write-behind.flush-interval-ms:200}") long flushIntervalMillis,
+            @Value("${diary.write-behind.offer-timeout-ms:100}") long offerTimeoutMillis
+    ) {
+        this(diaryService, meterRegistry, new DiaryWriteBehindJournal(journalFile, journalFsync), queueCapacity,
+                batchSize, maxAttempts, Duration.ofMillis(flushIntervalMillis), Duration.ofMillis(offerTimeoutMillis));
+    }
+
+    DiaryWriteBehindService(
+            DiaryService diaryService, MeterRegistry meterRegistry, DiaryWriteBehindJournal journal,
+            int queueCapacity, int batchSize, int maxAttempts, Duration flushInterval, Duration offerTimeout
+    ) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("diary.write-behind.max-attempts must be positive: " + maxAttempts);
+        }
+        this.diaryService = diaryService;
+        this.journal = journal;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.flushInterval = flushInterval;
+        this.offerTimeout = offerTimeout;
+
+        List<PendingDiary> recovered = journal.recover();
+        if (!recovered.isEmpty()) {
+            log.info("Recovered {} unsaved diary entries from journal", recovered.size());
+        }
+        queue.addAll(recovered);
+        // 복구된 건이 용량을 넘으면 음수에서 시작해, 밀린 만큼 저장될 때까지 새 요청을 받지 않는다.
+        this.capacity = new Semaphore(queueCapacity - recovered.size());
+
+        Gauge.builder("diary.write-behind.queue.size", queue, BlockingQueue::size)
+                .description("Diary entries accepted but not yet saved")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("diary.write-behind.flushed")
+                .description("Diary entries saved by the write-behind worker")
+                .register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("diary.write-behind.dead-lettered")
+                .description("Diary entries given up after repeated entry-specific save failures and moved to the dead-letter file")
+                .register(meterRegistry);
+
+        this.worker = new Thread(this::run, "diary-write-behind");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 일기를 접수하고 접수 id 를 돌려준다. 반환 시점에 저널에는 이미 기록되어 있다.
+     * 저장할 수 없는 값은 202 를 돌려주기 전에 여기서 거절한다.
+     */
+    public String submit(LocalDate date, String text) {
+        if (date == null || text == null) {
+            throw new InvalidRequestException("일기의 날짜와 내용은 필수입니다");
+        }
+        if (text.codePointCount(0, text.length()) > Diary.TEXT_MAX_LENGTH) {
+            throw new InvalidRequestException("일기 내용은 최대 " + Diary.TEXT_MAX_LENGTH + "자입니다");
+        }
+
+        try {
+            if (!capacity.tryAcquire(offerTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new WriteBehindQueueFullException("일기 저장 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WriteBehindQueueFullException("일기 접수가 중단되었습니다");
+        }
+
+        PendingDiary diary = new PendingDiary(UUID.randomUUID().toString(), date, text);
+        try {
+            journal.appendAccepted(diary);
+        } catch (RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+        queue.add(diary);
+        log.debug("Accepted diary {} for date {}", diary.id(), date);
+        return diary.id();
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 접수했지만 아직 저장하지도 포기하지도 않은 건수. 대기열과 저장 중인 배치를 모두 포함한다.
+     */
+    public int getUnsavedCount() {
+        return journal.getOutstanding();
+    }
+
+    public long getDeadLetteredCount() {
+        return (long) deadLetteredCounter.count();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+        if (worker.isAlive()) {
+            log.warn("Diary write-behind worker did not stop within 10 seconds");
+        }
+
+        int unsaved = getUnsavedCount();
+        if (unsaved > 0) {
+            log.warn("Shutting down with {} diaries not yet saved; they stay in the journal and are saved after restart", unsaved);
+        }
+        journal.close();
+    }
+
+    private void run() {
+        // 실패한 배치를 반으로 나눈 조각들. 대기열보다 먼저 저장한다.
+        Deque<List<PendingDiary>> splits = new ArrayDeque<>();
+        List<PendingDiary> batch = List.of();
+        long backoffMillis = flushInterval.toMillis();
+        int attempts = 0;
+
+        while (running || !queue.isEmpty() || !splits.isEmpty() || !batch.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    batch = splits.isEmpty() ? nextBatch() : splits.poll();
+                    if (batch.isEmpty()) {
+                        continue;
+                    }
+                }
+
+                flush(batch);
+                batch = List.of();
+                attempts = 0;
+                backoffMillis = flushInterval.toMillis();
+                continue;
+            } catch (InterruptedException e) {
+                if (running) {
+                    log.error("Diary write-behind worker interrupted, {} diaries left unsaved in the journal", getUnsavedCount());
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                continue;
+            } catch (RuntimeException e) {
+                if (!isEntryError(e)) {
+                    // DB 나 날씨 API 장애처럼 일기와 무관한 실패는 시도 횟수를 쓰지 않고, 기다렸다가 같은 배치를 통째로 다시 저장한다.
+                    log.error("Failed to save {} queued diaries, retrying in {} ms: {}",
+                            batch.size(), backoffMillis, e.getMessage(), e);
+                } else if (batch.size() > 1) {
+                    // 어느 일기가 문제인지 찾을 때까지 반씩 나눈다. 문제없는 쪽은 계속 배치로 저장된다.
+                    log.warn("Failed to save {} queued diaries because of an entry, splitting the batch: {}",
+                            batch.size(), e.getMessage());
+                    int middle = batch.size() / 2;
+                    splits.addFirst(List.copyOf(batch.subList(middle, batch.size())));
+                    splits.addFirst(List.copyOf(batch.subList(0, middle)));
+                    batch = List.of();
+                    continue;
+                } else {
+                    PendingDiary diary = batch.get(0);
+                    if (++attempts >= maxAttempts && deadLetter(diary, e)) {
+                        batch = List.of();
+                        attempts = 0;
+                        backoffMillis = flushInterval.toMillis();
+                        continue;
+                    }
+                    log.error("Failed to save queued diary {} (attempt {}/{}), retrying in {} ms: {}",
+                            diary.id(), attempts, maxAttempts, backoffMillis, e.getMessage(), e);
+                }
+
+                // 저널에 남아 있으므로 재시작해도 잃지 않는다.
+                if (!pause(backoffMillis)) {
+                    return;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, MAX_RETRY_BACKOFF.toMillis());
+            }
+        }
+    }
+
+    private List<PendingDiary> nextBatch() throws InterruptedException {
+        PendingDiary first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return List.of();
+        }
+        List<PendingDiary> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        return batch;
+    }
+
+    /**
+     * 재시도 전에 기다린다. 종료 중이거나 중단되면 false 를 돌려주며, 남은 일기는 저널에 그대로 둔다.
+     */
+    private boolean pause(long millis) {
+        if (!running) {
+            return false;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            if (running) {
+                log.error("Diary write-behind worker interrupted, {} diaries left unsaved in the journal", getUnsavedCount());
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 다시 저장해도 같은 결과가 나올 일기 자체의 문제(검증 실패, 제약 조건·데이터 길이 위반)인지 판단한다.
+     * DiaryService 의 flush 는 예외 변환을 거치지 않으므로 원인 중 SQLState 22(데이터), 23(제약 조건)도 본다.
+     * 그 밖의 실패는 모두 일시적인 장애로 보고 포기하지 않는다.
+     */
+    static boolean isEntryError(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InvalidRequestException || cause instanceof DataIntegrityViolationException) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException && sqlException.getSQLState() != null
+                    && (sqlException.getSQLState().startsWith("22") || sqlException.getSQLState().startsWith("23"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 더 시도하지 않을 일기를 .failed 파일로 옮기고 자리를 비운다. 기록하지 못하면 false 를 돌려주고 계속 재시도한다.
+     */
+    private boolean deadLetter(PendingDiary diary, RuntimeException cause) {
+        try {
+            journal.appendFailed(diary);
+        } catch (RuntimeException e) {
+            log.error("Failed to dead-letter diary {}: {}", diary.id(), e.getMessage(), e);
+            return false;
+        }
+        capacity.release();
+        deadLetteredCounter.increment();
+        log.error("Gave up saving diary {} for date {} after {} attempts, moved to {}: {}",
+                diary.id(), diary.date(), maxAttempts, journal.getFailedFile(), cause.getMessage(), cause);
+        return true;
+    }
+
+    private void flush(List<PendingDiary> batch) {
+        List<DiaryService.DiaryEntry> entries = batch.stream()
+                .map(diary -> new DiaryService.DiaryEntry(diary.date(), diary.text()))
+                .toList();
+
+        diaryService.createDiaries(entries);
+        journal.appendCommitted(batch);
+        capacity.release(batch.size());
+        flushedCounter.increment(batch.size());
+        log.debug("Flushed {} queued diaries", batch.size());
+    }
+
+    public record PendingDiary(String id, LocalDate date, String text) {}
+
+    public record AcceptedDiary(String id) {}
+}
@@ -0,0 +1,67 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import faithcoderlab.dailyweatherlog.repository.WeatherDataRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * CSV 파일(city,date,weather,temperature)에서 과거 날씨를 읽는 공급원.
+ * 외부 과거 날씨 API 대신 로컬 파일로 백필할 때나 테스트에서 쓴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "weather.backfill.source.file")
+public class FileHistoricalWeatherSource implements HistoricalWeatherSource {
+
+    private final Map<WeatherDataRepository.CityDate, WeatherService.WeatherDto> records;
+
+    public FileHistoricalWeatherSource(@Value("${weather.backfill.source.file}") Path file) {
+        this.records = load(file);
+        log.info("Loaded {} historical weather records from {}", records.size(), file);
+    }
+
+    @Override
+    public Optional<WeatherService.WeatherDto> fetch(String city, LocalDate date) {
+        return Optional.ofNullable(records.get(new WeatherDataRepository.CityDate(city, date)));
+    }
+
+    private static Map<WeatherDataRepository.CityDate, WeatherService.WeatherDto> load(Path file) {
+        Map<WeatherDataRepository.CityDate, WeatherService.WeatherDto> records = new HashMap<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#") || (lineNumber == 1 && line.startsWith("city,"))) {
+                    continue;
+                }
+
+                String[] fields = line.split(",");
+                if (fields.length != 4) {
+                    throw new IllegalArgumentException("Invalid historical weather record at line " + lineNumber + ": " + line);
+                }
+                records.put(
+                        new WeatherDataRepository.CityDate(fields[0].trim(), LocalDate.parse(fields[1].trim())),
+                        new WeatherService.WeatherDto(fields[2].trim(), Double.parseDouble(fields[3].trim())));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read historical weather file: " + file, e);
+        }
+        return records;
+    }
+}
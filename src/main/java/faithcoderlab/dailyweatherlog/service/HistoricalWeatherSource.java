@@ -0,0 +1,16 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 백필에 쓰는 과거 날씨 공급원. 구현체를 빈으로 등록해 교체한다.
+ */
+public interface HistoricalWeatherSource {
+
+    /**
+     * 해당 도시·날짜의 날씨를 돌려준다. 공급원에 데이터가 없으면 빈 값을 돌려준다.
+     * 여러 스레드에서 동시에 호출된다.
+     */
+    Optional<WeatherService.WeatherDto> fetch(String city, LocalDate date);
+}
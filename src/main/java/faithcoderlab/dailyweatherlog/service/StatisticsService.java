@@ -0,0 +1,161 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import faithcoderlab.dailyweatherlog.model.WeatherMonthlyStats;
+import faithcoderlab.dailyweatherlog.repository.DiaryDailyCountRepository;
+import faithcoderlab.dailyweatherlog.repository.DiaryRepository;
+import faithcoderlab.dailyweatherlog.repository.WeatherDataRepository;
+import faithcoderlab.dailyweatherlog.repository.WeatherMonthlyConditionRepository;
+import faithcoderlab.dailyweatherlog.repository.WeatherMonthlyStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 통계 API 가 읽는 집계 테이블을 관리한다.
+ * 날씨 집계는 저장된 (도시, 월) 만 weather_data 에서 다시 계산하고, 일기 수는 생성 시 더하고 삭제 시 해당 날짜만 다시 센다.
+ * 일기 수 집계는 날짜별 버전(DiaryVersionTracker 가 읽는다)도 함께 올리므로, 일기를 바꾸는 트랜잭션 안에서 호출해야 한다.
+ * 조회는 집계 테이블만 읽으므로 비용이 원본 행 수가 아니라 월/일 수에 비례한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatisticsService {
+
+    private final WeatherMonthlyStatsRepository weatherMonthlyStatsRepository;
+    private final WeatherMonthlyConditionRepository weatherMonthlyConditionRepository;
+    private final DiaryDailyCountRepository diaryDailyCountRepository;
+    private final WeatherDataRepository weatherDataRepository;
+    private final DiaryRepository diaryRepository;
+
+    /**
+     * 저장된 날씨가 속한 (도시, 월) 의 집계를 다시 계산한다. 호출한 쪽의 트랜잭션에 참여한다.
+     */
+    @Transactional
+    public void refreshWeatherMonths(Collection<WeatherDataRepository.CityDate> saved) {
+        Set<CityMonth> months = new LinkedHashSet<>();
+        for (WeatherDataRepository.CityDate cityDate : saved) {
+            months.add(new CityMonth(cityDate.city(), YearMonth.from(cityDate.date())));
+        }
+        months.forEach(this::refreshWeatherMonth);
+        log.debug("Refreshed weather statistics for {} city-months", months.size());
+    }
+
+    @Transactional
+    public void recordDiariesCreated(Map<LocalDate, Integer> countByDate) {
+        LocalDateTime now = now();
+        countByDate.forEach((date, count) -> diaryDailyCountRepository.increment(date, count, now));
+    }
+
+    /**
+     * 일기 수는 그대로 두고 날짜의 버전만 올린다. 일기 내용을 수정한 트랜잭션에서 호출한다.
+     */
+    @Transactional
+    public void recordDiaryUpdated(LocalDate date) {
+        diaryDailyCountRepository.increment(date, 0, now());
+    }
+
+    /**
+     * 삭제된 기간의 날짜별 일기 수를 diary 테이블에서 다시 센다. 기간이 모두 지워졌다면 읽는 행은 없다.
+     */
+    @Transactional
+    public void recountDiaries(LocalDate startDate, LocalDate endDate) {
+        LocalDateTime now = now();
+        diaryDailyCountRepository.resetBetween(startDate, endDate, now);
+        diaryDailyCountRepository.upsertCounted(startDate, endDate, now);
+    }
+
+    @Transactional(readOnly = true)
+    public List<MonthlyWeather> getMonthlyWeather(String city, YearMonth startMonth, YearMonth endMonth) {
+        return weatherMonthlyStatsRepository
+                .findAllByCityAndMonthStartBetweenOrderByMonthStartAsc(city, startMonth.atDay(1), endMonth.atDay(1))
+                .stream()
+                .map(MonthlyWeather::from)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<WeatherConditionCount> getWeatherConditions(String city, YearMonth startMonth, YearMonth endMonth) {
+        return weatherMonthlyConditionRepository
+                .findAllByCityAndMonthStartBetweenOrderByMonthStartAscDayCountDesc(city, startMonth.atDay(1), endMonth.atDay(1))
+                .stream()
+                .map(condition -> new WeatherConditionCount(
+                        YearMonth.from(condition.getMonthStart()), condition.getWeather(), condition.getDayCount()))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyDiaryCount> getDailyDiaryCounts(LocalDate startDate, LocalDate endDate) {
+        return diaryDailyCountRepository.findAllByDateBetweenAndDiaryCountGreaterThanOrderByDateAsc(startDate, endDate, 0)
+                .stream()
+                .map(count -> new DailyDiaryCount(count.getDate(), count.getDiaryCount()))
+                .toList();
+    }
+
+    /**
+     * 집계 테이블을 비우고 원본 테이블에서 처음부터 다시 만든다. 집계가 어긋났을 때 쓰는 관리 작업이다.
+     */
+    @Transactional
+    public RebuildResult rebuild() {
+        log.info("Rebuilding statistics rollups");
+        weatherMonthlyStatsRepository.deleteAllRows();
+        weatherMonthlyConditionRepository.deleteAllRows();
+        LocalDateTime now = now();
+        diaryDailyCountRepository.resetAll(now);
+
+        List<Object[]> cityMonths = weatherDataRepository.findCityMonths();
+        for (Object[] cityMonth : cityMonths) {
+            refreshWeatherMonth(new CityMonth((String) cityMonth[0], YearMonth.from((LocalDate) cityMonth[1])));
+        }
+
+        LocalDate firstDate = diaryRepository.findMinDate();
+        if (firstDate != null) {
+            diaryDailyCountRepository.upsertCounted(firstDate, diaryRepository.findMaxDate(), now);
+        }
+        int diaryDays = (int) diaryDailyCountRepository.countByDiaryCountGreaterThan(0);
+
+        log.info("Rebuilt statistics rollups: {} city-months, {} diary days", cityMonths.size(), diaryDays);
+        return new RebuildResult(cityMonths.size(), diaryDays);
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneOffset.UTC);
+    }
+
+    private void refreshWeatherMonth(CityMonth cityMonth) {
+        LocalDate monthStart = cityMonth.month().atDay(1);
+        LocalDate monthEnd = cityMonth.month().atEndOfMonth();
+
+        weatherMonthlyStatsRepository.deleteByCityAndMonthStart(cityMonth.city(), monthStart);
+        weatherMonthlyStatsRepository.insertAggregated(cityMonth.city(), monthStart, monthEnd);
+        weatherMonthlyConditionRepository.deleteByCityAndMonthStart(cityMonth.city(), monthStart);
+        weatherMonthlyConditionRepository.insertAggregated(cityMonth.city(), monthStart, monthEnd);
+    }
+
+    public record MonthlyWeather(YearMonth month, double minTemperature, double maxTemperature,
+                                 double averageTemperature, int days) {
+
+        static MonthlyWeather from(WeatherMonthlyStats stats) {
+            return new MonthlyWeather(YearMonth.from(stats.getMonthStart()), stats.getMinTemperature(),
+                    stats.getMaxTemperature(), stats.getTemperatureSum() / stats.getDayCount(), stats.getDayCount());
+        }
+    }
+
+    public record WeatherConditionCount(YearMonth month, String weather, int days) {}
+
+    public record DailyDiaryCount(LocalDate date, int count) {}
+
+    public record RebuildResult(int weatherMonths, int diaryDays) {}
+
+    record CityMonth(String city, YearMonth month) {}
+}
@@ -0,0 +1,89 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 도시 하나의 일별 기온을 epoch day 로 색인한 double[] 청크에 담는다. 값이 없는 날은 NaN 이다.
+ * 청크 하나가 CHUNK_DAYS 일(약 2.8년)을 덮으므로 10년치는 청크 네 개, 32KB 정도다.
+ */
+class TemperatureSeries {
+
+    static final int CHUNK_DAYS = 1024;
+
+    private final Map<Long, double[]> chunks = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void put(LocalDate date, double temperature) {
+        put(date, temperature, true);
+    }
+
+    /**
+     * 그 날의 값이 아직 없을 때만 넣는다.
+     */
+    void putIfAbsent(LocalDate date, double temperature) {
+        put(date, temperature, false);
+    }
+
+    private void put(LocalDate date, double temperature, boolean overwrite) {
+        long epochDay = date.toEpochDay();
+        lock.writeLock().lock();
+        try {
+            double[] chunk = chunks.computeIfAbsent(Math.floorDiv(epochDay, CHUNK_DAYS), index -> {
+                double[] empty = new double[CHUNK_DAYS];
+                Arrays.fill(empty, Double.NaN);
+                return empty;
+            });
+            int offset = (int) Math.floorMod(epochDay, CHUNK_DAYS);
+            if (overwrite || Double.isNaN(chunk[offset])) {
+                chunk[offset] = temperature;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * startDate 부터 endDate 까지의 값을 한 배열로 복사한다. 결과의 i 번째가 startDate + i 일이다.
+     */
+    double[] slice(LocalDate startDate, LocalDate endDate) {
+        long startDay = startDate.toEpochDay();
+        long endDay = endDate.toEpochDay();
+        double[] values = new double[Math.toIntExact(endDay - startDay + 1)];
+
+        lock.readLock().lock();
+        try {
+            int offset = 0;
+            for (long day = startDay; day <= endDay; ) {
+                long chunkIndex = Math.floorDiv(day, CHUNK_DAYS);
+                int from = (int) Math.floorMod(day, CHUNK_DAYS);
+                int length = (int) Math.min(CHUNK_DAYS - from, endDay - day + 1);
+
+                double[] chunk = chunks.get(chunkIndex);
+                if (chunk == null) {
+                    Arrays.fill(values, offset, offset + length, Double.NaN);
+                } else {
+                    System.arraycopy(chunk, from, values, offset, length);
+                }
+                offset += length;
+                day += length;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return values;
+    }
+
+    int chunkCount() {
+        lock.readLock().lock();
+        try {
+            return chunks.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
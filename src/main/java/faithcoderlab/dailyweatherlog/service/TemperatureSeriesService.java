@@ -0,0 +1,221 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import faithcoderlab.dailyweatherlog.exception.InvalidRequestException;
+import faithcoderlab.dailyweatherlog.repository.WeatherDataRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 도시별 일별 기온을 메모리의 primitive 시계열로 들고 구간 분석(이동 평균, 최저/최고, 백분위)을 계산한다.
+ * 기동이 끝난 뒤 백그라운드에서 weather_data 로 한 번 채우고, 이후에는 커밋된 WeatherSavedEvent 로 갱신하므로 분석 요청은 DB 를 읽지 않는다.
+ * 불러오기가 끝나기 전에 온 분석 요청은 끝날 때까지 기다린다.
+ * 인스턴스별로 유지되므로 다른 인스턴스가 저장한 날씨는 재시작 전까지 반영되지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TemperatureSeriesService {
+
+    static final int MAX_RANGE_DAYS = 36_600;
+    static final int MAX_WINDOW_DAYS = 366;
+
+    private final WeatherDataRepository weatherDataRepository;
+
+    private final Map<String, TemperatureSeries> seriesByCity = new ConcurrentHashMap<>();
+    private final AtomicReference<CompletableFuture<Void>> loading = new AtomicReference<>();
+
+    /**
+     * 전체 기온을 읽는 동안 기동과 readiness 가 기다리지 않도록, 준비가 끝난 뒤 가상 스레드에서 불러온다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadInBackground() {
+        startLoading();
+    }
+
+    /**
+     * 불러오기를 한 번만 시작하고 그 완료를 돌려준다. 실패하면 다음 호출이 다시 시작한다.
+     */
+    CompletableFuture<Void> startLoading() {
+        CompletableFuture<Void> current = loading.get();
+        if (current != null) {
+            return current;
+        }
+
+        CompletableFuture<Void> started = new CompletableFuture<>();
+        if (!loading.compareAndSet(null, started)) {
+            return loading.get();
+        }
+        Thread.ofVirtual().name("temperature-series-load").start(() -> {
+            try {
+                load();
+                started.complete(null);
+            } catch (RuntimeException e) {
+                log.error("Failed to load temperature series", e);
+                loading.compareAndSet(started, null);
+                started.completeExceptionally(e);
+            }
+        });
+        return started;
+    }
+
+    /**
+     * 불러오는 동안 커밋된 WeatherSavedEvent 가 먼저 넣은 값은 더 최신이므로 덮어쓰지 않는다.
+     */
+    void load() {
+        long startedAt = System.nanoTime();
+        int count = 0;
+
+        List<String> cities = weatherDataRepository.findDistinctCities();
+        for (String city : cities) {
+            TemperatureSeries series = series(city);
+            for (WeatherDataRepository.DateTemperature point : weatherDataRepository.findByCity(city)) {
+                series.putIfAbsent(point.date(), point.temperature());
+                count++;
+            }
+        }
+        log.info("Loaded {} daily temperatures for {} cities in {} ms",
+                count, cities.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    /**
+     * 커밋된 뒤에만 반영한다. 롤백된 저장이 메모리에 남지 않게 한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWeatherSaved(WeatherSavedEvent event) {
+        for (WeatherService.CityWeather record : event.records()) {
+            series(record.city()).put(record.date(), record.weather().temperature());
+        }
+    }
+
+    /**
+     * 기간 안에서 기온이 있는 날만으로 최저, 최고, 폭, 평균과 요청한 백분위를 계산한다.
+     * 백분위는 정렬된 값 사이를 선형 보간한다. 기온이 있는 날이 없으면 값은 모두 null 이다.
+     */
+    public TemperatureSummary getSummary(String city, LocalDate startDate, LocalDate endDate, List<Double> percentiles) {
+        validateRange(startDate, endDate);
+        for (double percentile : percentiles) {
+            if (percentile < 0 || percentile > 100) {
+                throw new InvalidRequestException("백분위는 0 이상 100 이하여야 합니다: " + percentile);
+            }
+        }
+
+        double[] values = compact(slice(city, startDate, endDate));
+        if (values.length == 0) {
+            return new TemperatureSummary(city, startDate, endDate, 0, null, null, null, null,
+                    percentiles.stream().map(percentile -> new Percentile(percentile, null)).toList());
+        }
+
+        Arrays.sort(values);
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        double min = values[0];
+        double max = values[values.length - 1];
+
+        List<Percentile> computed = percentiles.stream()
+                .map(percentile -> new Percentile(percentile, percentileOfSorted(values, percentile)))
+                .toList();
+        return new TemperatureSummary(city, startDate, endDate, values.length, min, max, max - min,
+                sum / values.length, computed);
+    }
+
+    /**
+     * 날짜마다 그 날까지 window 일 동안 기온이 있는 날의 평균을 돌려준다. 기간 앞쪽의 창은 startDate 이전 데이터도 쓴다.
+     * 창 안에 기온이 하나도 없으면 그 날의 값은 null 이다.
+     */
+    public MovingAverage getMovingAverage(String city, LocalDate startDate, LocalDate endDate, int window) {
+        validateRange(startDate, endDate);
+        if (window < 1 || window > MAX_WINDOW_DAYS) {
+            throw new InvalidRequestException("이동 평균 기간은 1 이상 " + MAX_WINDOW_DAYS + " 이하여야 합니다");
+        }
+
+        double[] values = slice(city, startDate.minusDays(window - 1), endDate);
+        Double[] averages = new Double[values.length - (window - 1)];
+
+        double sum = 0;
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (!Double.isNaN(values[i])) {
+                sum += values[i];
+                count++;
+            }
+            int leaving = i - window;
+            if (leaving >= 0 && !Double.isNaN(values[leaving])) {
+                sum -= values[leaving];
+                count--;
+            }
+            if (i >= window - 1) {
+                averages[i - (window - 1)] = count == 0 ? null : sum / count;
+            }
+        }
+        return new MovingAverage(city, startDate, endDate, window, averages);
+    }
+
+    private double[] slice(String city, LocalDate startDate, LocalDate endDate) {
+        startLoading().join();
+        TemperatureSeries series = seriesByCity.get(city);
+        if (series == null) {
+            double[] empty = new double[(int) ChronoUnit.DAYS.between(startDate, endDate) + 1];
+            Arrays.fill(empty, Double.NaN);
+            return empty;
+        }
+        return series.slice(startDate, endDate);
+    }
+
+    private TemperatureSeries series(String city) {
+        return seriesByCity.computeIfAbsent(city, key -> new TemperatureSeries());
+    }
+
+    private static double[] compact(double[] values) {
+        double[] compacted = new double[values.length];
+        int count = 0;
+        for (double value : values) {
+            if (!Double.isNaN(value)) {
+                compacted[count++] = value;
+            }
+        }
+        return Arrays.copyOf(compacted, count);
+    }
+
+    private static double percentileOfSorted(double[] sorted, double percentile) {
+        double position = percentile / 100 * (sorted.length - 1);
+        int lower = (int) Math.floor(position);
+        int upper = (int) Math.ceil(position);
+        return sorted[lower] + (sorted[upper] - sorted[lower]) * (position - lower);
+    }
+
+    private static void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidRequestException("시작 날짜가 종료 날짜보다 늦습니다");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > MAX_RANGE_DAYS) {
+            throw new InvalidRequestException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다");
+        }
+    }
+
+    public record TemperatureSummary(String city, LocalDate startDate, LocalDate endDate, int days,
+                                     Double min, Double max, Double range, Double mean,
+                                     List<Percentile> percentiles) {}
+
+    public record Percentile(double percentile, Double value) {}
+
+    /**
+     * values 의 i 번째가 startDate + i 일의 이동 평균이다.
+     */
+    public record MovingAverage(String city, LocalDate startDate, LocalDate endDate, int window, Double[] values) {}
+}
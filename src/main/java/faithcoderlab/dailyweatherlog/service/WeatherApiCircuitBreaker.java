@@ -0,0 +1,151 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import faithcoderlab.dailyweatherlog.exception.WeatherApiException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 날씨 API 호출을 감싸는 회로 차단기.
+ * 연속 실패가 임계치에 닿으면 open-seconds 동안 호출을 막고, 그 뒤 한 번의 시험 호출 결과로 닫거나 다시 연다.
+ * API 가 닿지 않거나 5xx 로 응답한 경우만 실패로 센다(isUpstreamFailure). 4xx 나 파싱 오류는 API 가 살아 있다는 뜻이다.
+ */
+@Slf4j
+@Component
+public class WeatherApiCircuitBreaker implements MeterBinder {
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openUntil = Instant.MIN;
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    @Autowired
+    public WeatherApiCircuitBreaker(
+            @Value("${weather.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${weather.circuit-breaker.open-seconds:30}") long openSeconds
+    ) {
+        this(failureThreshold, Duration.ofSeconds(openSeconds), Clock.systemUTC());
+    }
+
+    WeatherApiCircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("weather.circuit-breaker.failure-threshold must be positive: " + failureThreshold);
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    /**
+     * 호출해도 되는지 확인한다. 열린 상태가 끝났으면 이 호출자 하나만 시험 호출로 통과시킨다.
+     * true 를 받은 호출자는 반드시 recordSuccess 또는 recordFailure 로 결과를 알려야 한다.
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clock.instant().isBefore(openUntil)) {
+                    rejectedCount.incrementAndGet();
+                    return false;
+                }
+                log.info("Weather API circuit half-open, allowing a trial request");
+                state = State.HALF_OPEN;
+                return true;
+            default:
+                rejectedCount.incrementAndGet();
+                return false;
+        }
+    }
+
+    /**
+     * tryAcquire 로 허용된 호출의 결과를 알린다. error 가 없거나 upstream 장애가 아니면 성공으로 기록한다.
+     */
+    public void record(Throwable error) {
+        if (error != null && isUpstreamFailure(error)) {
+            recordFailure();
+        } else {
+            recordSuccess();
+        }
+    }
+
+    /**
+     * 원인을 따라가 WeatherApiException 을 찾고, 응답을 받지 못했거나(statusCode 0, 열린 회로 포함) 5xx 인지 본다.
+     */
+    public static boolean isUpstreamFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof WeatherApiException apiException) {
+                return apiException.getStatusCode() == 0 || apiException.getStatusCode() >= 500;
+            }
+        }
+        return false;
+    }
+
+    public synchronized void recordSuccess() {
+        if (state != State.CLOSED) {
+            log.info("Weather API circuit closed");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("Weather API circuit opened after {} consecutive failures", consecutiveFailures);
+            }
+            state = State.OPEN;
+            openUntil = clock.instant().plus(openDuration);
+        }
+    }
+
+    /**
+     * 다음 시험 호출이 가능해질 때까지 남은 시간. 열려 있지 않으면 0 이다.
+     */
+    public synchronized Duration getRetryDelay() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        Duration remaining = Duration.between(clock.instant(), openUntil);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("weather.api.circuit.open", this, breaker -> breaker.getState() == State.CLOSED ? 0 : 1)
+                .description("1 while the weather API circuit breaker is open or half-open")
+                .register(registry);
+        FunctionCounter.builder("weather.api.circuit.rejected", rejectedCount, AtomicLong::get)
+                .description("Weather API calls short-circuited by the open circuit breaker")
+                .register(registry);
+    }
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+}
@@ -1,23 +1,48 @@
 package faithcoderlab.dailyweatherlog.service;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import faithcoderlab.dailyweatherlog.exception.WeatherApiException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.util.Map;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class WeatherApiClient {
 
+    /**
+     * HttpRequest.timeout 은 응답 헤더까지만 잰다. 본문까지 포함한 전체 교환에도 같은 기한을 건다.
+     */
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
     @Value("${openweathermap.api.key}")
     private String apiKey;
 
@@ -28,61 +53,288 @@ public class WeatherApiClient {
     private String city;
 
     private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final MeterRegistry meterRegistry;
 
-    public Map<String, Object> getWeatherData() {
-        log.info("Fetching weather data for city: {}", city);
-        String weatherString = getWeatherString();
-        return parseWeatherData(weatherString);
+    private final ConcurrentMap<String, CompletableFuture<WeatherService.WeatherDto>> inFlightRequests = new ConcurrentHashMap<>();
+    private final AtomicLong fetchCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    @PostConstruct
+    void registerMetrics() {
+        FunctionCounter.builder("weather.api.fetches", fetchCount, AtomicLong::get)
+                .description("Weather API calls actually sent upstream")
+                .register(meterRegistry);
+        FunctionCounter.builder("weather.api.coalesced", coalescedCount, AtomicLong::get)
+                .description("Weather API callers that joined an in-flight request instead of sending their own")
+                .register(meterRegistry);
     }
 
-    String getWeatherString() {
-        String fullApiUrl = apiUrl + "?q=" + city + "&appid=" + apiKey + "&units=metric";
-        log.debug("API request URL: {}", fullApiUrl);
+    /**
+     * 기본 도시(openweathermap.api.city)의 현재 날씨를 가져온다.
+     */
+    public WeatherService.WeatherDto getWeatherData() {
+        return getWeatherData(city);
+    }
+
+    /**
+     * 같은 도시에 대한 요청이 이미 진행 중이면 새로 호출하지 않고 그 결과(또는 실패)를 함께 받는다.
+     */
+    public WeatherService.WeatherDto getWeatherData(String city) {
+        return await(coalesce(city, () -> CompletableFuture.completedFuture(parseWeatherData(fetchWeatherBody(city)))));
+    }
+
+    public CompletableFuture<WeatherService.WeatherDto> getWeatherDataAsync() {
+        return getWeatherDataAsync(city);
+    }
+
+    /**
+     * getWeatherData 의 비동기 버전. 호출 스레드를 막지 않으므로 다른 작업과 겹쳐 실행할 수 있다.
+     */
+    public CompletableFuture<WeatherService.WeatherDto> getWeatherDataAsync(String city) {
+        return coalesce(city, () -> fetchWeatherBodyAsync(city).thenApply(this::parseWeatherData)).copy();
+    }
+
+    public long getFetchCount() {
+        return fetchCount.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * 본문까지 다 받은 뒤에 돌려준다. 전체 교환이 REQUEST_TIMEOUT 을 넘으면 요청을 취소하고 실패한다.
+     */
+    byte[] fetchWeatherBody(String city) {
+        CompletableFuture<byte[]> body = fetchWeatherBodyAsync(city);
 
         try {
-            BufferedReader br = getBufferedReader(fullApiUrl);
+            return body.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new WeatherApiException("Failed to get response from weather API", 0, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WeatherApiException("Failed to get response from weather API", 0, e);
+        }
+    }
 
-            String inputLine;
-            StringBuilder response = new StringBuilder();
-            while ((inputLine = br.readLine()) != null) {
-                response.append(inputLine);
+    CompletableFuture<byte[]> fetchWeatherBodyAsync(String city) {
+        HttpRequest request = buildRequest(city);
+
+        CompletableFuture<HttpResponse<byte[]>> exchange = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        return exchange
+                .orTimeout(REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((response, error) -> {
+                    if (error != null) {
+                        Throwable cause = unwrap(error);
+                        if (cause instanceof TimeoutException) {
+                            // 본문을 받는 중이면 HttpClient 쪽 교환도 끊는다
+                            exchange.cancel(true);
+                        }
+                        log.error("Error getting weather data from API: {}", cause.toString());
+                        throw new WeatherApiException("Failed to get response from weather API", 0, cause);
+                    }
+                    return checkResponse(response);
+                });
+    }
+
+    /**
+     * 이미 다 받은 본문을 파싱하므로 I/O 를 기다리지 않는다. 비동기 경로에서 HttpClient 스레드에서 불려도 된다.
+     */
+    public WeatherService.WeatherDto parseWeatherData(byte[] body) {
+        return parseWeatherData(new ByteArrayInputStream(body));
+    }
+
+    /**
+     * 응답 스트림을 토큰 단위로 읽어 main.temp 와 weather[0].main 만 뽑아낸다.
+     * 중간 문자열이나 Map 트리를 만들지 않고 나머지 필드는 건너뛴다. 스트림은 호출한 쪽에서 닫는다.
+     */
+    public WeatherService.WeatherDto parseWeatherData(InputStream inputStream) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Weather response is not a JSON object");
+            }
+
+            String description = null;
+            double temperature = Double.NaN;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+
+                if ("main".equals(fieldName) && valueToken == JsonToken.START_OBJECT) {
+                    temperature = readTemperature(parser);
+                } else if ("weather".equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                    description = readDescription(parser);
+                } else {
+                    parser.skipChildren();
+                }
             }
 
-            br.close();
-            String responseStr = response.toString();
-            log.debug("Received response from API: {}", responseStr);
-            return responseStr;
+            if (description == null || Double.isNaN(temperature)) {
+                throw new IOException("Weather response is missing main.temp or weather[0].main");
+            }
+
+            return new WeatherService.WeatherDto(description, temperature);
         } catch (IOException e) {
-            log.error("Error getting weather data from API: {}", e.getMessage());
-            throw new RuntimeException("Failed to get response from weather API", e);
+            log.error("Error parsing weather data: {}", e.getMessage());
+            throw new RuntimeException("Failed to parse weather data", e);
         }
     }
 
-    private Map<String, Object> parseWeatherData(String jsonString) {
-        try {
-            return objectMapper.readValue(jsonString, Map.class);
-        } catch (Exception e) {
-            log.error("Error parsing weather data: {}", e.getMessage());
-            throw new RuntimeException("Failed to parse weather data", e);
+    private HttpRequest buildRequest(String city) {
+        String fullApiUrl = apiUrl + "?q=" + URLEncoder.encode(city, StandardCharsets.UTF_8)
+                + "&appid=" + apiKey + "&units=metric";
+        log.debug("API request URL: {}", fullApiUrl);
+
+        return HttpRequest.newBuilder(URI.create(fullApiUrl))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private byte[] checkResponse(HttpResponse<byte[]> response) {
+        int responseCode = response.statusCode();
+
+        if (responseCode != 200) {
+            log.error("Error getting weather data from API: response code {}", responseCode);
+            throw new WeatherApiException("Failed to get response from weather API", responseCode,
+                    new IOException("OpenWeatherMap API request failed with response code: " + responseCode));
+        }
+
+        return response.body();
+    }
+
+    private static double readTemperature(JsonParser parser) throws IOException {
+        double temperature = Double.NaN;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+
+            if ("temp".equals(fieldName) && valueToken.isNumeric()) {
+                temperature = parser.getDoubleValue();
+            } else {
+                parser.skipChildren();
+            }
         }
+        return temperature;
     }
 
-    private static BufferedReader getBufferedReader(String apiUrl) throws IOException {
-        URL url = new URL(apiUrl);
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        connection.setRequestMethod("GET");
-        connection.setConnectTimeout(5000);
-        connection.setReadTimeout(5000);
+    private static String readDescription(JsonParser parser) throws IOException {
+        String description = null;
+        JsonToken token;
+
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (description != null || token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+
+                if ("main".equals(fieldName) && valueToken == JsonToken.VALUE_STRING) {
+                    description = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return description;
+    }
+
+    private CompletableFuture<WeatherService.WeatherDto> coalesce(
+            String city, Supplier<CompletableFuture<WeatherService.WeatherDto>> fetcher
+    ) {
+        CompletableFuture<WeatherService.WeatherDto> future = new CompletableFuture<>();
+        CompletableFuture<WeatherService.WeatherDto> inFlight = inFlightRequests.putIfAbsent(city, future);
+
+        if (inFlight != null) {
+            coalescedCount.incrementAndGet();
+            log.debug("Joining in-flight weather request for city: {}", city);
+            return inFlight;
+        }
+
+        log.info("Fetching weather data for city: {}", city);
+        fetchCount.incrementAndGet();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        // Error 까지 잡아야 맵에 남은 future 를 기다리는 다음 호출자가 멈추지 않는다
+        CompletableFuture<WeatherService.WeatherDto> fetch;
+        try {
+            fetch = fetcher.get();
+        } catch (Throwable e) {
+            fetch = CompletableFuture.failedFuture(e);
+        }
 
-        int responseCode = connection.getResponseCode();
+        fetch.whenComplete((result, error) -> {
+            Throwable cause = error == null ? null : unwrap(error);
+            try {
+                inFlightRequests.remove(city, future);
+                recordFetch(sample, cause);
+            } finally {
+                if (cause != null) {
+                    future.completeExceptionally(cause);
+                } else {
+                    future.complete(result);
+                }
+            }
+        });
+        return future;
+    }
 
-        BufferedReader br;
-        if (responseCode == 200) {
-            br = new BufferedReader(new InputStreamReader(connection.getInputStream()));
+    private void recordFetch(Timer.Sample sample, Throwable error) {
+        String outcome;
+        String status;
+
+        if (error == null) {
+            outcome = "SUCCESS";
+            status = "200";
+        } else if (error instanceof WeatherApiException apiException && apiException.getStatusCode() > 0) {
+            outcome = "HTTP_ERROR";
+            status = String.valueOf(apiException.getStatusCode());
+        } else if (error instanceof WeatherApiException) {
+            outcome = "IO_ERROR";
+            status = "NONE";
         } else {
-            br = new BufferedReader(new InputStreamReader(connection.getErrorStream()));
-            throw new IOException("OpenWeatherMap API request failed with response code: " + responseCode);
+            outcome = "PARSE_ERROR";
+            status = "200";
+        }
+
+        sample.stop(Timer.builder("weather.api.requests")
+                .description("Latency of weather API calls including response parsing")
+                .tag("outcome", outcome)
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            return error.getCause();
         }
-        return br;
+        return error;
     }
 }
@@ -0,0 +1,208 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import faithcoderlab.dailyweatherlog.exception.BackfillJobNotFoundException;
+import faithcoderlab.dailyweatherlog.exception.InvalidRequestException;
+import faithcoderlab.dailyweatherlog.model.WeatherBackfillJob;
+import faithcoderlab.dailyweatherlog.repository.WeatherBackfillJobRepository;
+import faithcoderlab.dailyweatherlog.repository.WeatherDataRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 날짜 범위의 비어 있는 weather_data 를 과거 날씨 공급원으로 채운다.
+ * 누락된 (도시, 날짜) 는 매 실행마다 DB 에서 다시 계산하므로, 청크 단위로 커밋된 작업은 재시작 후 건너뛴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WeatherBackfillService {
+
+    private final WeatherService weatherService;
+    private final WeatherDataRepository weatherDataRepository;
+    private final WeatherBackfillJobRepository weatherBackfillJobRepository;
+    private final WeatherCollector weatherCollector;
+    private final ObjectProvider<HistoricalWeatherSource> historicalWeatherSource;
+
+    @Value("${weather.backfill.parallelism:8}")
+    private int parallelism;
+
+    @Value("${weather.backfill.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${weather.backfill.max-days:3660}")
+    private long maxDays;
+
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor();
+
+    public WeatherBackfillJob startBackfill(LocalDate startDate, LocalDate endDate, List<String> cities) {
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidRequestException("시작 날짜가 종료 날짜보다 늦습니다");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > maxDays) {
+            throw new InvalidRequestException("백필 기간은 최대 " + maxDays + "일입니다");
+        }
+        requireSource();
+
+        List<String> targetCities = cities == null || cities.isEmpty() ? weatherCollector.getCities() : cities;
+        LocalDateTime now = LocalDateTime.now();
+
+        WeatherBackfillJob job = weatherBackfillJobRepository.save(WeatherBackfillJob.builder()
+                .cities(String.join(",", targetCities))
+                .startDate(startDate)
+                .endDate(endDate)
+                .status(WeatherBackfillJob.Status.RUNNING)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+
+        log.info("Starting weather backfill job {} for {} cities between {} and {}",
+                job.getId(), targetCities.size(), startDate, endDate);
+        jobExecutor.execute(() -> runJob(job.getId()));
+        return job;
+    }
+
+    public WeatherBackfillJob getJob(Long jobId) {
+        return weatherBackfillJobRepository.findById(jobId)
+                .orElseThrow(() -> new BackfillJobNotFoundException("해당 백필 작업이 존재하지 않습니다"));
+    }
+
+    /**
+     * 종료 전에 끝나지 않은 작업을 이어서 실행한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        List<WeatherBackfillJob> jobs = weatherBackfillJobRepository.findAllByStatus(WeatherBackfillJob.Status.RUNNING);
+        if (jobs.isEmpty()) {
+            return;
+        }
+        if (historicalWeatherSource.getIfAvailable() == null) {
+            log.warn("{} interrupted weather backfill jobs found but no historical weather source is configured", jobs.size());
+            return;
+        }
+
+        for (WeatherBackfillJob job : jobs) {
+            log.info("Resuming weather backfill job {} from checkpoint {}", job.getId(), job.getCheckpointDate());
+            jobExecutor.execute(() -> runJob(job.getId()));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    void runJob(Long jobId) {
+        WeatherBackfillJob job = getJob(jobId);
+
+        try {
+            List<WeatherDataRepository.CityDate> missing = findMissing(job.getCityList(), job.getStartDate(), job.getEndDate());
+            job.setTotalCount(job.getCompletedCount() + missing.size());
+            job.setFailedCount(0);
+            saveProgress(job);
+            log.info("Weather backfill job {}: {} missing records", jobId, missing.size());
+
+            HistoricalWeatherSource source = requireSource();
+
+            try (ExecutorService fetchExecutor = Executors.newFixedThreadPool(parallelism)) {
+                for (int from = 0; from < missing.size(); from += chunkSize) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        log.info("Weather backfill job {} interrupted at checkpoint {}", jobId, job.getCheckpointDate());
+                        return;
+                    }
+
+                    List<WeatherDataRepository.CityDate> chunk = missing.subList(from, Math.min(from + chunkSize, missing.size()));
+                    List<WeatherService.CityWeather> fetched = fetchChunk(source, fetchExecutor, chunk);
+
+                    weatherService.saveWeatherData(fetched);
+
+                    job.setCompletedCount(job.getCompletedCount() + fetched.size());
+                    job.setFailedCount(job.getFailedCount() + chunk.size() - fetched.size());
+                    job.setCheckpointDate(chunk.get(chunk.size() - 1).date());
+                    saveProgress(job);
+                }
+            }
+
+            job.setStatus(WeatherBackfillJob.Status.COMPLETED);
+            saveProgress(job);
+            log.info("Weather backfill job {} completed: {} saved, {} failed",
+                    jobId, job.getCompletedCount(), job.getFailedCount());
+        } catch (Exception e) {
+            log.error("Weather backfill job {} failed: {}", jobId, e.getMessage(), e);
+            job.setStatus(WeatherBackfillJob.Status.FAILED);
+            job.setErrorMessage(e.getMessage() == null ? null : e.getMessage().substring(0, Math.min(500, e.getMessage().length())));
+            saveProgress(job);
+        }
+    }
+
+    /**
+     * 저장된 키 집합을 한 번에 읽고, 요청 범위의 (도시, 날짜) 중 빠진 것만 날짜 순으로 돌려준다.
+     */
+    List<WeatherDataRepository.CityDate> findMissing(List<String> cities, LocalDate startDate, LocalDate endDate) {
+        Set<WeatherDataRepository.CityDate> present = new HashSet<>(
+                weatherDataRepository.findByCityInAndDateBetween(cities, startDate, endDate));
+
+        List<WeatherDataRepository.CityDate> missing = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            for (String city : cities) {
+                WeatherDataRepository.CityDate key = new WeatherDataRepository.CityDate(city, date);
+                if (!present.contains(key)) {
+                    missing.add(key);
+                }
+            }
+        }
+        return missing;
+    }
+
+    private List<WeatherService.CityWeather> fetchChunk(
+            HistoricalWeatherSource source, ExecutorService fetchExecutor, List<WeatherDataRepository.CityDate> chunk
+    ) {
+        List<CompletableFuture<Optional<WeatherService.CityWeather>>> requests = chunk.stream()
+                .map(key -> CompletableFuture.supplyAsync(() -> source.fetch(key.city(), key.date())
+                        .map(weather -> new WeatherService.CityWeather(key.city(), key.date(), weather)), fetchExecutor))
+                .toList();
+
+        List<WeatherService.CityWeather> fetched = new ArrayList<>(chunk.size());
+        for (int i = 0; i < requests.size(); i++) {
+            WeatherDataRepository.CityDate key = chunk.get(i);
+            try {
+                requests.get(i).join().ifPresentOrElse(fetched::add,
+                        () -> log.debug("No historical weather data for {}", key));
+            } catch (CompletionException e) {
+                log.warn("Failed to fetch historical weather data for {}: {}", key, e.getCause().getMessage());
+            }
+        }
+        return fetched;
+    }
+
+    private HistoricalWeatherSource requireSource() {
+        HistoricalWeatherSource source = historicalWeatherSource.getIfAvailable();
+        if (source == null) {
+            throw new IllegalStateException("과거 날씨 공급원이 설정되지 않았습니다 (weather.backfill.source.file)");
+        }
+        return source;
+    }
+
+    private void saveProgress(WeatherBackfillJob job) {
+        job.setUpdatedAt(LocalDateTime.now());
+        weatherBackfillJobRepository.save(job);
+    }
+}
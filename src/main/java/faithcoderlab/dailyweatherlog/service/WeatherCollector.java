@@ -0,0 +1,146 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import faithcoderlab.dailyweatherlog.exception.WeatherApiException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 설정된 여러 도시의 현재 날씨를 동시에 가져온다.
+ * 동시에 진행 중인 요청 수(parallelism)와 초당 요청 수(rate-limit-per-second)를 함께 제한하고,
+ * 요청마다 WeatherService 와 같은 회로 차단기를 거친다.
+ */
+@Slf4j
+@Component
+public class WeatherCollector {
+
+    private final WeatherApiClient weatherApiClient;
+    private final WeatherApiCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final List<String> cities;
+    private final int parallelism;
+    private final RateLimiter rateLimiter;
+
+    @Autowired
+    public WeatherCollector(
+            WeatherApiClient weatherApiClient,
+            WeatherApiCircuitBreaker circuitBreaker,
+            MeterRegistry meterRegistry,
+            @Value("${weather.collection.cities:${openweathermap.api.city}}") List<String> cities,
+            @Value("${weather.collection.parallelism:16}") int parallelism,
+            @Value("${weather.collection.rate-limit-per-second:50}") double rateLimitPerSecond
+    ) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("weather.collection.parallelism must be positive: " + parallelism);
+        }
+        if (rateLimitPerSecond <= 0) {
+            throw new IllegalArgumentException("weather.collection.rate-limit-per-second must be positive: " + rateLimitPerSecond);
+        }
+        this.weatherApiClient = weatherApiClient;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+        this.cities = cities.stream().map(String::trim).filter(city -> !city.isEmpty()).distinct().toList();
+        this.parallelism = parallelism;
+        this.rateLimiter = new RateLimiter(rateLimitPerSecond);
+    }
+
+    public List<String> getCities() {
+        return cities;
+    }
+
+    public Map<String, WeatherService.WeatherDto> fetchAll() {
+        return fetchAll(cities);
+    }
+
+    /**
+     * 도시별 날씨를 비동기로 요청하고 모두 끝날 때까지 기다린다.
+     * 실패한 도시는 결과에서 빠지며 나머지 도시의 수집에는 영향을 주지 않는다.
+     * 회로가 열려 있으면 그 도시는 API 를 호출하지 않고 바로 실패로 처리한다.
+     */
+    public Map<String, WeatherService.WeatherDto> fetchAll(Collection<String> cities) {
+        log.info("Collecting weather data for {} cities (parallelism: {})", cities.size(), parallelism);
+
+        Semaphore permits = new Semaphore(parallelism);
+        Map<String, CompletableFuture<WeatherService.WeatherDto>> requests = new LinkedHashMap<>();
+
+        for (String city : cities) {
+            permits.acquireUninterruptibly();
+            rateLimiter.acquire();
+
+            CompletableFuture<WeatherService.WeatherDto> request = fetch(city);
+            request.whenComplete((result, error) -> permits.release());
+            requests.put(city, request);
+        }
+
+        Map<String, WeatherService.WeatherDto> results = new LinkedHashMap<>();
+        int failures = 0;
+
+        for (Map.Entry<String, CompletableFuture<WeatherService.WeatherDto>> entry : requests.entrySet()) {
+            try {
+                results.put(entry.getKey(), entry.getValue().join());
+            } catch (CompletionException e) {
+                failures++;
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.warn("Failed to collect weather data for city {}: {}", entry.getKey(), cause.getMessage());
+            }
+        }
+
+        meterRegistry.counter("weather.collection.cities", "outcome", "SUCCESS").increment(results.size());
+        meterRegistry.counter("weather.collection.cities", "outcome", "ERROR").increment(failures);
+        log.info("Collected weather data for {} cities ({} failed)", results.size(), failures);
+        return results;
+    }
+
+    private CompletableFuture<WeatherService.WeatherDto> fetch(String city) {
+        if (!circuitBreaker.tryAcquire()) {
+            return CompletableFuture.failedFuture(
+                    new WeatherApiException("Weather API circuit breaker is open", 0, null));
+        }
+
+        CompletableFuture<WeatherService.WeatherDto> request;
+        try {
+            request = weatherApiClient.getWeatherDataAsync(city);
+        } catch (RuntimeException e) {
+            request = CompletableFuture.failedFuture(e);
+        }
+        return request.whenComplete((result, error) -> circuitBreaker.record(error));
+    }
+
+    /**
+     * 요청 사이 간격을 일정하게 벌리는 단순한 클라이언트 측 속도 제한기.
+     * 슬롯 예약만 잠금 안에서 하고 대기는 잠금 밖에서 한다.
+     */
+    static final class RateLimiter {
+
+        private final long intervalNanos;
+        private long nextFreeNanos = System.nanoTime();
+
+        RateLimiter(double permitsPerSecond) {
+            this.intervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        }
+
+        void acquire() {
+            long slot;
+            synchronized (this) {
+                slot = Math.max(System.nanoTime(), nextFreeNanos);
+                nextFreeNanos = slot + intervalNanos;
+            }
+
+            long waitNanos;
+            while ((waitNanos = slot - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+        }
+    }
+}
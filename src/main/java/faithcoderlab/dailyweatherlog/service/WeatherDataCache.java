@@ -0,0 +1,153 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 날짜별 날씨 데이터를 메모리에 보관하는 크기 제한 + TTL 캐시.
+ * 날씨는 스케줄러가 갱신할 때만 바뀌므로 saveWeatherData 시점에 무효화한다.
+ */
+@Slf4j
+@Component
+public class WeatherDataCache implements MeterBinder {
+
+    private final int maxSize;
+    private final Duration ttl;
+    private final Clock clock;
+
+    private final Map<LocalDate, Entry> entries;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    @Autowired
+    public WeatherDataCache(
+            @Value("${weather.cache.max-size:366}") int maxSize,
+            @Value("${weather.cache.ttl-seconds:3600}") long ttlSeconds
+    ) {
+        this(maxSize, Duration.ofSeconds(ttlSeconds), Clock.systemUTC());
+    }
+
+    WeatherDataCache(int maxSize, Duration ttl, Clock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("weather.cache.max-size must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<LocalDate, Entry> eldest) {
+                if (size() > WeatherDataCache.this.maxSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized Optional<WeatherService.WeatherDto> get(LocalDate date) {
+        Entry entry = entries.get(date);
+
+        if (entry == null) {
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+
+        if (entry.isExpired(clock.instant())) {
+            entries.remove(date);
+            evictionCount.incrementAndGet();
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+
+        hitCount.incrementAndGet();
+        return Optional.of(entry.weather());
+    }
+
+    public synchronized void put(LocalDate date, WeatherService.WeatherDto weather) {
+        entries.put(date, new Entry(weather, clock.instant().plus(ttl)));
+    }
+
+    /**
+     * 캐시에서 즉시 제거하고, 트랜잭션 안이라면 커밋 직후에 한 번 더 제거한다.
+     * 커밋 전에 다른 스레드가 이전 값을 다시 채워 넣는 경우를 막기 위함이다.
+     */
+    public void invalidate(LocalDate date) {
+        remove(date);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(date);
+                }
+            });
+        }
+    }
+
+    private synchronized void remove(LocalDate date) {
+        if (entries.remove(date) != null) {
+            log.debug("Invalidated cached weather data for date: {}", date);
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("weather.cache.requests", hitCount, AtomicLong::get)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("weather.cache.requests", missCount, AtomicLong::get)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("weather.cache.evictions", evictionCount, AtomicLong::get)
+                .register(registry);
+        Gauge.builder("weather.cache.size", this, WeatherDataCache::size)
+                .register(registry);
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    private record Entry(WeatherService.WeatherDto weather, Instant expiresAt) {
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
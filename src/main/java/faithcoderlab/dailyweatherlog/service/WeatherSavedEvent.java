@@ -0,0 +1,9 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import java.util.List;
+
+/**
+ * 저장된 날씨 기록. WeatherService 가 발행하며 트랜잭션 커밋 뒤에 처리된다.
+ */
+public record WeatherSavedEvent(List<WeatherService.CityWeather> records) {
+}
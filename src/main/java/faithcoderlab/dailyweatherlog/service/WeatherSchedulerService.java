@@ -1,12 +1,21 @@
 package faithcoderlab.dailyweatherlog.service;
 
+import faithcoderlab.dailyweatherlog.repository.WeatherDataRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Service
@@ -14,33 +23,76 @@ import java.time.LocalDate;
 public class WeatherSchedulerService {
 
     private final WeatherService weatherService;
+    private final WeatherCollector weatherCollector;
+    private final MeterRegistry meterRegistry;
+    private final WeatherDataRepository weatherDataRepository;
+
+    @Value("${weather.collection.on-startup:true}")
+    private boolean collectOnStartup;
+
+    private final AtomicBoolean startupCollectionStarted = new AtomicBoolean();
 
     @Scheduled(cron = "0 0 1 * * ?")
     public void saveWeatherDataDaily() {
         log.info("Daily weather data collection scheduled task starting...");
+        collectWeatherData("daily");
+    }
 
-        LocalDate today = LocalDate.now();
-
-        try {
-            weatherService.saveWeatherData(today);
-            log.info("Daily weather data successfully collected and saved");
-        } catch (Exception e) {
-            log.error("Error while collecting daily weather data: {}", e.getMessage(), e);
+    /**
+     * 트래픽을 받기 시작한 뒤 백그라운드 가상 스레드에서 한 번만 수집한다.
+     * 기동과 readiness 를 날씨 API 응답에 묶지 않기 위해서다.
+     */
+    @EventListener
+    public void onReadinessChanged(AvailabilityChangeEvent<ReadinessState> event) {
+        if (!collectOnStartup || event.getState() != ReadinessState.ACCEPTING_TRAFFIC
+                || !startupCollectionStarted.compareAndSet(false, true)) {
+            return;
         }
+        Thread.ofVirtual().name("weather-startup-collection").start(this::saveWeatherDataOnStartUp);
     }
 
-    @Scheduled(initialDelay = 1000, fixedDelay = Long.MAX_VALUE)
-    @Transactional
+    /**
+     * 오늘 날씨가 모든 도시에 이미 저장되어 있으면(재시작, 다른 인스턴스가 먼저 수집) API 를 부르지 않는다.
+     */
     public void saveWeatherDataOnStartUp() {
-        log.info("Collecting weather data on application startup...");
+        List<String> cities = weatherCollector.getCities();
+        long stored = weatherDataRepository.countByDateAndCityIn(LocalDate.now(), cities);
+        if (stored >= cities.size()) {
+            log.info("Weather data for today is already stored for all {} cities, skipping startup collection", cities.size());
+            return;
+        }
+
+        log.info("Collecting weather data on application startup ({} of {} cities stored for today)...", stored, cities.size());
+        collectWeatherData("startup");
+    }
 
+    /**
+     * 도시별 조회는 트랜잭션 밖에서 병렬로 하고, 모인 결과만 한 트랜잭션으로 저장한다.
+     */
+    private void collectWeatherData(String task) {
         LocalDate today = LocalDate.now();
+        Timer.Sample sample = Timer.start(meterRegistry);
 
         try {
-            weatherService.saveWeatherData(today);
-            log.info("Application startup weather data successfully collected and saved");
+            Map<String, WeatherService.WeatherDto> weatherByCity = weatherCollector.fetchAll();
+            if (weatherByCity.isEmpty()) {
+                throw new RuntimeException("No weather data collected for any city");
+            }
+
+            int saved = weatherService.saveWeatherData(today, weatherByCity);
+            log.info("Weather data successfully collected and saved for {} cities ({})", saved, task);
+            recordRun(sample, task, "SUCCESS");
         } catch (Exception e) {
-            log.error("Error while collecting startup weather data: {}", e.getMessage(), e);
+            log.error("Error while collecting weather data ({}): {}", task, e.getMessage(), e);
+            recordRun(sample, task, "ERROR");
         }
     }
+
+    private void recordRun(Timer.Sample sample, String task, String outcome) {
+        sample.stop(Timer.builder("weather.scheduler.runs")
+                .description("Duration of scheduled weather collection runs")
+                .tag("task", task)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
 }
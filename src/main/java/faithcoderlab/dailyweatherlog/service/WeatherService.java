@@ -1,15 +1,29 @@
 package faithcoderlab.dailyweatherlog.service;
 
+import faithcoderlab.dailyweatherlog.exception.WeatherApiException;
 import faithcoderlab.dailyweatherlog.model.WeatherData;
 import faithcoderlab.dailyweatherlog.repository.WeatherDataRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -18,40 +32,139 @@ public class WeatherService {
 
     private final WeatherApiClient weatherApiClient;
     private final WeatherDataRepository weatherDataRepository;
+    private final WeatherDataCache weatherDataCache;
+    private final MeterRegistry meterRegistry;
+    private final WeatherApiCircuitBreaker circuitBreaker;
+    private final StatisticsService statisticsService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public WeatherDto getWeatherFromApi() {
-        log.info("Fetching current weather data from API");
+    private final Set<LocalDate> pendingRefreshes = ConcurrentHashMap.newKeySet();
 
-        try {
-            Map<String, Object> weatherData = weatherApiClient.getWeatherData();
+    /**
+     * 일기에 붙는 날씨의 기준 도시. 캐시와 일기 작성 시 조회는 이 도시만 대상으로 한다.
+     */
+    @Value("${openweathermap.api.city}")
+    private String defaultCity;
 
-            Map<String, Object> mainData = (Map<String, Object>) weatherData.get("main");
-            Double temperature = ((Number) mainData.get("temp")).doubleValue();
+    /**
+     * 회로 차단기가 열려 있으면 API 를 호출하지 않고 바로 실패한다.
+     * 연결 실패, 타임아웃, 5xx 만 회로의 실패로 센다.
+     */
+    public WeatherDto getWeatherFromApi() {
+        log.info("Fetching current weather data from API");
 
-            Map<String, Object> weatherDetails = (Map<String, Object>) ((java.util.List<?>) weatherData.get("weather")).get(0);
-            String weatherDescription = (String) weatherDetails.get("main");
+        if (!circuitBreaker.tryAcquire()) {
+            log.warn("Weather API circuit is open, skipping API call");
+            throw new RuntimeException("Failed to get weather data",
+                    new WeatherApiException("Weather API circuit breaker is open", 0, null));
+        }
 
-            return new WeatherDto(weatherDescription, temperature);
+        try {
+            WeatherDto weatherDto = weatherApiClient.getWeatherData();
+            circuitBreaker.recordSuccess();
+            return weatherDto;
         } catch (Exception e) {
+            circuitBreaker.record(e);
             log.error("Error fetching weather data: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to get weather data", e);
         }
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * DB 조회는 리포지토리의 짧은 읽기 전용 트랜잭션 안에서만 수행한다.
+     * API 로 폴백하는 동안 커넥션을 붙잡고 있지 않도록 메서드 전체를 트랜잭션으로 감싸지 않는다.
+     */
     public WeatherDto getWeatherData(LocalDate date) {
         log.info("Getting weather data for date: {}", date);
 
-        Optional<WeatherData> weatherDataOptional = weatherDataRepository.findByDate(date);
+        Optional<WeatherDto> cached = weatherDataCache.get(date);
+        if (cached.isPresent()) {
+            log.debug("Found weather data in cache for date: {}", date);
+            countLookup("cache");
+            return cached.get();
+        }
+
+        Optional<WeatherData> weatherDataOptional = weatherDataRepository.findByCityAndDate(defaultCity, date);
 
         if (weatherDataOptional.isPresent()) {
             log.info("Found weather data in database for date: {}", date);
+            countLookup("database");
             WeatherData data = weatherDataOptional.get();
-            return new WeatherDto(data.getWeather(), data.getTemperature());
-        } else {
-            log.info("No weather data found in database for date: {}, fetching from API", date);
-            return getWeatherFromApi();
+            WeatherDto weatherDto = new WeatherDto(data.getWeather(), data.getTemperature());
+            weatherDataCache.put(date, weatherDto);
+            return weatherDto;
+        }
+
+        log.info("No weather data found in database for date: {}, fetching from API", date);
+        try {
+            WeatherDto weatherDto = getWeatherFromApi();
+            countLookup("api");
+            return weatherDto;
+        } catch (RuntimeException e) {
+            // 4xx 나 파싱 오류는 다시 물어도 같으므로 오래된 날씨로 가리지 않는다
+            if (!WeatherApiCircuitBreaker.isUpstreamFailure(e)) {
+                throw e;
+            }
+            return getStaleWeatherData(date).orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * API 를 쓸 수 없을 때(회로가 열림, 연결 실패, 타임아웃, 5xx) 가장 가까운 날짜의 저장된 날씨를 stale 표시와 함께 돌려준다.
+     * 오늘 날짜라면 회로가 다시 시험 호출을 허용하는 시점에 비동기로 현재 날씨를 받아 캐시에 채운다.
+     * API 는 현재 날씨만 주므로 다른 날짜는 새로 받지 않는다.
+     */
+    private Optional<WeatherDto> getStaleWeatherData(LocalDate date) {
+        Optional<WeatherData> before = weatherDataRepository.findFirstByCityAndDateLessThanOrderByDateDesc(defaultCity, date);
+        Optional<WeatherData> after = weatherDataRepository.findFirstByCityAndDateGreaterThanOrderByDateAsc(defaultCity, date);
+
+        Optional<WeatherData> nearest = before;
+        if (after.isPresent() && (before.isEmpty()
+                || ChronoUnit.DAYS.between(date, after.get().getDate()) < ChronoUnit.DAYS.between(before.get().getDate(), date))) {
+            nearest = after;
+        }
+
+        if (nearest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        WeatherData data = nearest.get();
+        log.warn("Weather API unavailable, using stale weather data from {} for date: {}", data.getDate(), date);
+        countLookup("stale");
+        if (date.equals(LocalDate.now())) {
+            scheduleRefresh(date);
         }
+        return Optional.of(new WeatherDto(data.getWeather(), data.getTemperature(), true));
+    }
+
+    private void scheduleRefresh(LocalDate date) {
+        if (!pendingRefreshes.add(date)) {
+            return;
+        }
+
+        long delayMillis = circuitBreaker.getRetryDelay().toMillis();
+        log.debug("Scheduling weather refresh for date {} in {} ms", date, delayMillis);
+        CompletableFuture.runAsync(() -> refresh(date),
+                CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS));
+    }
+
+    private void refresh(LocalDate date) {
+        // 기다리는 사이 날짜가 바뀌었으면 현재 날씨가 그 날의 날씨가 아니다
+        if (!date.equals(LocalDate.now()) || !circuitBreaker.tryAcquire()) {
+            pendingRefreshes.remove(date);
+            return;
+        }
+
+        weatherApiClient.getWeatherDataAsync().whenComplete((weatherDto, error) -> {
+            pendingRefreshes.remove(date);
+            circuitBreaker.record(error);
+            if (error != null) {
+                log.warn("Background weather refresh failed for date {}: {}", date, error.getMessage());
+            } else {
+                weatherDataCache.put(date, weatherDto);
+                log.info("Background weather refresh succeeded for date: {}", date);
+            }
+        });
     }
 
     @Transactional
@@ -60,7 +173,7 @@ public class WeatherService {
 
         WeatherDto weatherDto = getWeatherFromApi();
 
-        Optional<WeatherData> existingWeatherData = weatherDataRepository.findByDate(date);
+        Optional<WeatherData> existingWeatherData = weatherDataRepository.findByCityAndDate(defaultCity, date);
 
         if (existingWeatherData.isPresent()) {
             log.info("Updating existing weather data for date: {}", date);
@@ -71,6 +184,7 @@ public class WeatherService {
         } else {
             log.info("Creating new weather data for date: {}", date);
             WeatherData weatherData = WeatherData.builder()
+                    .city(defaultCity)
                     .date(date)
                     .weather(weatherDto.description())
                     .temperature(weatherDto.temperature())
@@ -78,8 +192,121 @@ public class WeatherService {
             weatherDataRepository.save(weatherData);
         }
 
+        statisticsService.refreshWeatherMonths(List.of(new WeatherDataRepository.CityDate(defaultCity, date)));
+        eventPublisher.publishEvent(new WeatherSavedEvent(List.of(new CityWeather(defaultCity, date, weatherDto))));
+        weatherDataCache.invalidate(date);
         log.info("Weather data saved successfully for date: {}", date);
     }
 
-    public record WeatherDto(String description, double temperature) {}
+    /**
+     * 여러 도시의 날씨를 한 트랜잭션에서 저장한다.
+     * 기존 행은 한 번의 IN 쿼리로 읽고, INSERT/UPDATE 는 JDBC 배치로 묶여 나간다.
+     */
+    @Transactional
+    public int saveWeatherData(LocalDate date, Map<String, WeatherDto> weatherByCity) {
+        if (weatherByCity.isEmpty()) {
+            return 0;
+        }
+        log.info("Saving weather data for {} cities on date: {}", weatherByCity.size(), date);
+
+        Map<String, WeatherData> existing = weatherDataRepository.findAllByDateAndCityIn(date, weatherByCity.keySet())
+                .stream()
+                .collect(Collectors.toMap(WeatherData::getCity, Function.identity()));
+
+        List<WeatherData> rows = new ArrayList<>(weatherByCity.size());
+        weatherByCity.forEach((city, weatherDto) -> {
+            WeatherData weatherData = existing.get(city);
+            if (weatherData == null) {
+                weatherData = WeatherData.builder()
+                        .city(city)
+                        .date(date)
+                        .build();
+            }
+            weatherData.setWeather(weatherDto.description());
+            weatherData.setTemperature(weatherDto.temperature());
+            rows.add(weatherData);
+        });
+        weatherDataRepository.saveAll(rows);
+        statisticsService.refreshWeatherMonths(weatherByCity.keySet().stream()
+                .map(city -> new WeatherDataRepository.CityDate(city, date))
+                .toList());
+        eventPublisher.publishEvent(new WeatherSavedEvent(weatherByCity.entrySet().stream()
+                .map(entry -> new CityWeather(entry.getKey(), date, entry.getValue()))
+                .toList()));
+
+        if (weatherByCity.containsKey(defaultCity)) {
+            weatherDataCache.invalidate(date);
+        }
+        log.info("Weather data saved for {} cities ({} new) on date: {}",
+                rows.size(), rows.size() - existing.size(), date);
+        return rows.size();
+    }
+
+    /**
+     * 도시·날짜가 섞인 기록을 한 트랜잭션에서 upsert 한다. 백필처럼 여러 날짜를 한 번에 채울 때 쓴다.
+     * 기존 행은 기록이 걸친 도시·날짜 범위에 대해 한 번에 읽는다.
+     */
+    @Transactional
+    public int saveWeatherData(List<CityWeather> records) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> cities = new HashSet<>();
+        LocalDate minDate = records.get(0).date();
+        LocalDate maxDate = minDate;
+        for (CityWeather record : records) {
+            cities.add(record.city());
+            minDate = record.date().isBefore(minDate) ? record.date() : minDate;
+            maxDate = record.date().isAfter(maxDate) ? record.date() : maxDate;
+        }
+
+        Map<WeatherDataRepository.CityDate, WeatherData> existing = weatherDataRepository
+                .findAllByCityInAndDateBetween(cities, minDate, maxDate)
+                .stream()
+                .collect(Collectors.toMap(
+                        data -> new WeatherDataRepository.CityDate(data.getCity(), data.getDate()),
+                        Function.identity()));
+
+        List<WeatherData> rows = new ArrayList<>(records.size());
+        for (CityWeather record : records) {
+            WeatherData weatherData = existing.get(new WeatherDataRepository.CityDate(record.city(), record.date()));
+            if (weatherData == null) {
+                weatherData = WeatherData.builder()
+                        .city(record.city())
+                        .date(record.date())
+                        .build();
+            }
+            weatherData.setWeather(record.weather().description());
+            weatherData.setTemperature(record.weather().temperature());
+            rows.add(weatherData);
+
+            if (record.city().equals(defaultCity)) {
+                weatherDataCache.invalidate(record.date());
+            }
+        }
+        weatherDataRepository.saveAll(rows);
+        statisticsService.refreshWeatherMonths(records.stream()
+                .map(record -> new WeatherDataRepository.CityDate(record.city(), record.date()))
+                .toList());
+        eventPublisher.publishEvent(new WeatherSavedEvent(List.copyOf(records)));
+
+        log.info("Upserted {} weather records between {} and {}", rows.size(), minDate, maxDate);
+        return rows.size();
+    }
+
+    private void countLookup(String source) {
+        meterRegistry.counter("weather.lookups", "source", source).increment();
+    }
+
+    /**
+     * stale 이 true 이면 API 장애로 가장 가까운 날짜의 저장된 날씨를 대신 쓴 값이다.
+     */
+    public record WeatherDto(String description, double temperature, boolean stale) {
+        public WeatherDto(String description, double temperature) {
+            this(description, temperature, false);
+        }
+    }
+
+    public record CityWeather(String city, LocalDate date, WeatherDto weather) {}
 }
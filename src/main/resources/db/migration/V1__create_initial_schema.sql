@@ -0,0 +1,24 @@
+-- Initial schema for new databases, matching the columns the entities mapped before Flyway was introduced.
+-- Databases created earlier by ddl-auto=update are baselined at this version and only run later migrations.
+-- Their constraint and index names were generated by Hibernate (e.g. UK_<hash>), not the ones below,
+-- so later migrations must not refer to the names declared in this file.
+
+CREATE TABLE diary
+(
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    date        DATE         NOT NULL,
+    text        VARCHAR(255) NOT NULL,
+    weather     VARCHAR(255) NOT NULL,
+    temperature DOUBLE       NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE weather_data
+(
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    date        DATE         NOT NULL,
+    weather     VARCHAR(255) NOT NULL,
+    temperature DOUBLE       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_weather_data_date UNIQUE (date)
+);
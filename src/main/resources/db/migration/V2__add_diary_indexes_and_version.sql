@@ -0,0 +1,22 @@
+-- Keyset pagination, range reads and deletes all filter on date and order by (date, id).
+CREATE INDEX idx_diary_date_id ON diary (date, id);
+
+-- Optimistic locking column for Diary (@Version).
+ALTER TABLE diary ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+-- Table-backed sequence for Diary ids (pooled optimizer, allocationSize = 50).
+-- Databases that ran the batch-insert release before Flyway already have diary_seq, created by
+-- ddl-auto=update with next_val = 1, so the table may exist and its value may be below the current ids.
+-- Either way it ends up with one row above the current max id, so no allocated block collides with existing rows.
+CREATE TABLE IF NOT EXISTS diary_seq
+(
+    next_val BIGINT
+);
+
+INSERT INTO diary_seq (next_val)
+SELECT 0
+FROM DUAL
+WHERE NOT EXISTS (SELECT 1 FROM diary_seq);
+
+UPDATE diary_seq
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM diary));
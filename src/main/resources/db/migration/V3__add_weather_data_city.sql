@@ -0,0 +1,40 @@
+-- Weather is collected for several cities, so rows are keyed by (city, date).
+-- Existing rows belong to the single city the application was configured with
+-- (spring.flyway.placeholders.default_city).
+ALTER TABLE weather_data ADD COLUMN city VARCHAR(100) DEFAULT '${default_city}' NOT NULL;
+ALTER TABLE weather_data ALTER COLUMN city DROP DEFAULT;
+
+-- The single-column unique key on date is named uk_weather_data_date only on databases created by V1.
+-- Databases baselined from ddl-auto=update carry a Hibernate-generated name (UK_<hash>),
+-- so look the index up by its columns and drop whatever it is called.
+SET @uk_weather_data_date = (
+    SELECT index_name
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'weather_data'
+      AND non_unique = 0
+      AND index_name <> 'PRIMARY'
+    GROUP BY index_name
+    HAVING COUNT(*) = 1
+       AND MAX(column_name) = 'date'
+    LIMIT 1
+);
+SET @drop_uk_weather_data_date = IF(@uk_weather_data_date IS NULL,
+    'DO 0',
+    CONCAT('ALTER TABLE weather_data DROP INDEX `', @uk_weather_data_date, '`'));
+PREPARE drop_uk_weather_data_date FROM @drop_uk_weather_data_date;
+EXECUTE drop_uk_weather_data_date;
+DEALLOCATE PREPARE drop_uk_weather_data_date;
+
+ALTER TABLE weather_data ADD CONSTRAINT uk_weather_data_city_date UNIQUE (city, date);
+
+-- Table-backed sequence for WeatherData ids so multi-city saves can use JDBC batching
+-- (pooled optimizer, allocationSize = 50).
+CREATE TABLE weather_data_seq
+(
+    next_val BIGINT
+);
+
+INSERT INTO weather_data_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51
+FROM weather_data;
@@ -0,0 +1,19 @@
+-- Progress of historical weather backfill jobs. RUNNING jobs are resumed on startup.
+CREATE TABLE weather_backfill_job
+(
+    id              BIGINT        NOT NULL AUTO_INCREMENT,
+    cities          VARCHAR(2000) NOT NULL,
+    start_date      DATE          NOT NULL,
+    end_date        DATE          NOT NULL,
+    status          VARCHAR(20)   NOT NULL,
+    total_count     INT           NOT NULL,
+    completed_count INT           NOT NULL,
+    failed_count    INT           NOT NULL,
+    checkpoint_date DATE,
+    error_message   VARCHAR(500),
+    created_at      DATETIME(6)   NOT NULL,
+    updated_at      DATETIME(6)   NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_weather_backfill_job_status ON weather_backfill_job (status);
@@ -0,0 +1,48 @@
+-- Rollups behind the /statistics endpoints. They are kept up to date by the application on every write
+-- (POST /admin/statistics/rebuild recomputes them from scratch) and seeded here from existing rows.
+CREATE TABLE weather_monthly_stats
+(
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    city            VARCHAR(100) NOT NULL,
+    month_start     DATE         NOT NULL,
+    min_temperature DOUBLE       NOT NULL,
+    max_temperature DOUBLE       NOT NULL,
+    temperature_sum DOUBLE       NOT NULL,
+    day_count       INT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_weather_monthly_stats_city_month UNIQUE (city, month_start)
+);
+
+CREATE TABLE weather_monthly_condition
+(
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    city        VARCHAR(100) NOT NULL,
+    month_start DATE         NOT NULL,
+    weather     VARCHAR(255) NOT NULL,
+    day_count   INT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_weather_monthly_condition UNIQUE (city, month_start, weather)
+);
+
+CREATE TABLE diary_daily_count
+(
+    date        DATE NOT NULL,
+    diary_count INT  NOT NULL,
+    PRIMARY KEY (date)
+);
+
+INSERT INTO weather_monthly_stats (city, month_start, min_temperature, max_temperature, temperature_sum, day_count)
+SELECT city, DATE_SUB(date, INTERVAL DAYOFMONTH(date) - 1 DAY) AS month_start,
+       MIN(temperature), MAX(temperature), SUM(temperature), COUNT(*)
+FROM weather_data
+GROUP BY city, month_start;
+
+INSERT INTO weather_monthly_condition (city, month_start, weather, day_count)
+SELECT city, DATE_SUB(date, INTERVAL DAYOFMONTH(date) - 1 DAY) AS month_start, weather, COUNT(*)
+FROM weather_data
+GROUP BY city, month_start, weather;
+
+INSERT INTO diary_daily_count (date, diary_count)
+SELECT date, COUNT(*)
+FROM diary
+GROUP BY date;
@@ -0,0 +1,10 @@
+-- Per-date change version behind the diary ETag / Last-Modified headers. The application bumps it in the same
+-- transaction as every diary write, so all instances sharing the database hand out the same validators.
+-- Rows are no longer deleted when a date's diaries are gone; they drop to a zero count so the version never goes back.
+ALTER TABLE diary_daily_count
+    ADD COLUMN version       BIGINT      NOT NULL DEFAULT 0,
+    ADD COLUMN last_modified DATETIME(6) NOT NULL DEFAULT '1970-01-01 00:00:00';
+
+UPDATE diary_daily_count
+SET version       = 1,
+    last_modified = UTC_TIMESTAMP(6);
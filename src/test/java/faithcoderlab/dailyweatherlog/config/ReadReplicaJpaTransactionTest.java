@@ -0,0 +1,122 @@
+package faithcoderlab.dailyweatherlog.config;
+
+import faithcoderlab.dailyweatherlog.repository.DiaryDailyCountRepository;
+import faithcoderlab.dailyweatherlog.service.DiaryVersionTracker;
+import jakarta.persistence.EntityManager;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.InvalidIsolationLevelException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * replica 설정(라우팅 DataSource, 트랜잭션 후 커넥션 반환)을 JpaTransactionManager 와 함께 띄워,
+ * 실제 애플리케이션과 같은 조합에서 읽기 전용 트랜잭션이 시작되고 replica 로 가는지 확인한다.
+ */
+class ReadReplicaJpaTransactionTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 7, 1);
+
+    private LocalContainerEntityManagerFactoryBean entityManagerFactory;
+    private JpaTransactionManager transactionManager;
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                embeddedDatabase("primary"), embeddedDatabase("replica"),
+                new ReplicaLagGuard(Duration.ofSeconds(5), Clock.systemUTC())));
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        new ReadReplicaDataSourceConfig().releaseConnectionAfterTransaction().customize(properties);
+
+        entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactory.setDataSource(dataSource);
+        entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactory.setPackagesToScan(ReadReplicaJpaTransactionTest.class.getPackageName());
+        entityManagerFactory.setJpaPropertyMap(properties);
+        entityManagerFactory.afterPropertiesSet();
+
+        transactionManager = new JpaTransactionManager(entityManagerFactory.getObject());
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory.getObject());
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("readVersioned 는 JPA 트랜잭션에서 예외 없이 replica 를 읽음 테스트")
+    void readVersionedRunsOnReplicaTest() {
+        // given
+        DiaryDailyCountRepository repository = mock(DiaryDailyCountRepository.class);
+        DiaryDailyCountRepository.VersionSummary summary = mock(DiaryDailyCountRepository.VersionSummary.class);
+        when(repository.summarizeVersions(any(LocalDate.class), any(LocalDate.class))).thenReturn(summary);
+
+        ProxyFactory proxyFactory = new ProxyFactory(new DiaryVersionTracker(repository));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+        DiaryVersionTracker tracker = (DiaryVersionTracker) proxyFactory.getProxy();
+
+        // when
+        String route = tracker.readVersioned(DATE, DATE, version -> readMarker());
+
+        // then
+        assertEquals("replica", route);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 후 커넥션 반환 모드에서 격리 수준을 지정하면 트랜잭션 시작 실패 테스트")
+    void customIsolationRejectedTest() {
+        // given
+        TransactionTemplate isolated = new TransactionTemplate(transactionManager);
+        isolated.setReadOnly(true);
+        isolated.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        // when & then
+        assertThrows(InvalidIsolationLevelException.class, () -> isolated.execute(status -> readMarker()));
+    }
+
+    private String readMarker() {
+        return (String) entityManager.createNativeQuery("select name from marker order by id fetch first 1 rows only")
+                .getSingleResult();
+    }
+
+    private static DataSource embeddedDatabase(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:jpa-" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("create table marker (id bigint auto_increment primary key, name varchar(20) not null)");
+        setup.update("insert into marker (name) values (?)", name);
+        return dataSource;
+    }
+}
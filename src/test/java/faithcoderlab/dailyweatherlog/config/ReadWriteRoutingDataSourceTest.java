@@ -0,0 +1,143 @@
+package faithcoderlab.dailyweatherlog.config;
+
+import jakarta.servlet.http.Cookie;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * primary 와 replica 를 서로 다른 내장 H2 데이터베이스로 띄우고, 각 DB 의 표식 행으로 어느 쪽에서 읽었는지 확인한다.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Instant NOW = Instant.parse("2024-07-01T00:00:00Z");
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWriteTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = embeddedDatabase("primary");
+        DataSource replica = embeddedDatabase("replica");
+        ReplicaLagGuard replicaLagGuard = new ReplicaLagGuard(Duration.ofSeconds(5), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replica, replicaLagGuard));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션과 트랜잭션 밖은 primary 로 라우팅 테스트")
+    void routeByTransactionReadOnlyTest() {
+        assertEquals("replica", readOnlyTransaction.execute(status -> readMarker()));
+        assertEquals("primary", readWriteTransaction.execute(status -> readMarker()));
+        assertEquals("primary", readMarker());
+    }
+
+    @Test
+    @DisplayName("같은 요청에서 쓰기가 커밋된 뒤의 조회는 primary 로 보내고 쿠키를 남김 테스트")
+    void readYourWritesWithinRequestTest() {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        bindRequest(new MockHttpServletRequest(), response);
+        assertEquals("replica", readOnlyTransaction.execute(status -> readMarker()));
+
+        // when
+        readWriteTransaction.executeWithoutResult(status ->
+                jdbcTemplate.update("insert into marker (name) values ('written')"));
+
+        // then
+        assertEquals("primary", readOnlyTransaction.execute(status -> readMarker()));
+        Cookie cookie = response.getCookie(ReplicaLagGuard.COOKIE_NAME);
+        assertNotNull(cookie);
+        assertEquals(Long.toString(NOW.toEpochMilli()), cookie.getValue());
+        assertEquals(5, cookie.getMaxAge());
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 primary 고정을 남기지 않음 테스트")
+    void rolledBackWriteDoesNotPinTest() {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        bindRequest(new MockHttpServletRequest(), response);
+
+        // when
+        readWriteTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("insert into marker (name) values ('written')");
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertEquals("replica", readOnlyTransaction.execute(status -> readMarker()));
+        assertNull(response.getCookie(ReplicaLagGuard.COOKIE_NAME));
+    }
+
+    @Test
+    @DisplayName("최근 쓰기 쿠키가 있는 요청만 primary 에서 읽음 테스트")
+    void recentWriteCookieTest() {
+        // given
+        MockHttpServletRequest recent = new MockHttpServletRequest();
+        recent.setCookies(new Cookie(ReplicaLagGuard.COOKIE_NAME, Long.toString(NOW.minusSeconds(2).toEpochMilli())));
+        MockHttpServletRequest expired = new MockHttpServletRequest();
+        expired.setCookies(new Cookie(ReplicaLagGuard.COOKIE_NAME, Long.toString(NOW.minusSeconds(6).toEpochMilli())));
+
+        // when
+        bindRequest(recent, new MockHttpServletResponse());
+        String recentRoute = readOnlyTransaction.execute(status -> readMarker());
+        bindRequest(expired, new MockHttpServletResponse());
+        String expiredRoute = readOnlyTransaction.execute(status -> readMarker());
+
+        // then
+        assertEquals("primary", recentRoute);
+        assertEquals("replica", expiredRoute);
+    }
+
+    private String readMarker() {
+        return jdbcTemplate.queryForObject("select name from marker order by id fetch first 1 rows only", String.class);
+    }
+
+    private static void bindRequest(MockHttpServletRequest request, MockHttpServletResponse response) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+    }
+
+    private static DataSource embeddedDatabase(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("create table marker (id bigint auto_increment primary key, name varchar(20) not null)");
+        setup.update("insert into marker (name) values (?)", name);
+        return dataSource;
+    }
+}
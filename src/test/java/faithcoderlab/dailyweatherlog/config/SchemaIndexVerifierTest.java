@@ -0,0 +1,113 @@
+package faithcoderlab.dailyweatherlog.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 내장 H2 에 테이블을 만들고 인덱스 유무에 따라 기동 검사가 통과하거나 중단되는지 확인한다.
+ */
+class SchemaIndexVerifierTest {
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:schema-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        h2.setUser("sa");
+        dataSource = h2;
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table diary (id bigint primary key, date date not null, text varchar(255) not null)");
+        jdbcTemplate.execute("create table weather_data (id bigint primary key, city varchar(100) not null, date date not null)");
+    }
+
+    @Test
+    @DisplayName("필요한 인덱스가 모두 있으면 통과 테스트")
+    void requiredIndexesPresentTest() {
+        // given
+        createRequiredIndexes();
+
+        // when & then
+        assertDoesNotThrow(() -> new SchemaIndexVerifier(dataSource).afterSingletonsInstantiated());
+    }
+
+    @Test
+    @DisplayName("필요한 인덱스가 없으면 기동 중단 테스트")
+    void requiredIndexMissingTest() {
+        // given
+        jdbcTemplate.execute("alter table weather_data add constraint uk_weather_data_city_date unique (city, date)");
+
+        // when
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> new SchemaIndexVerifier(dataSource).afterSingletonsInstantiated());
+
+        // then
+        assertTrue(exception.getMessage().contains("diary[date, id]"));
+        assertFalse(exception.getMessage().contains("weather_data"));
+    }
+
+    @Test
+    @DisplayName("인덱스 앞쪽 컬럼이 다르면 없는 것으로 판단 테스트")
+    void indexWithDifferentLeadingColumnTest() {
+        // given
+        jdbcTemplate.execute("create index idx_diary_id_date on diary (id, date)");
+        jdbcTemplate.execute("create index idx_weather_data_date on weather_data (date)");
+
+        // when
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> new SchemaIndexVerifier(dataSource).afterSingletonsInstantiated());
+
+        // then
+        assertTrue(exception.getMessage().contains("diary[date, id]"));
+        assertTrue(exception.getMessage().contains("weather_data[city, date]"));
+    }
+
+    @Test
+    @DisplayName("기본 설정에서는 인덱스가 없으면 컨텍스트 기동 실패 테스트")
+    void enabledByDefaultTest() {
+        new ApplicationContextRunner()
+                .withBean(DataSource.class, () -> dataSource)
+                .withUserConfiguration(SchemaIndexVerifier.class)
+                .run(context -> {
+                    assertNotNull(context.getStartupFailure());
+                    assertInstanceOf(IllegalStateException.class, rootCause(context.getStartupFailure()));
+                });
+    }
+
+    @Test
+    @DisplayName("diary.schema.verify-indexes=false 면 검사 빈을 만들지 않음 테스트")
+    void disabledByPropertyTest() {
+        new ApplicationContextRunner()
+                .withPropertyValues("diary.schema.verify-indexes=false")
+                .withBean(DataSource.class, () -> dataSource)
+                .withUserConfiguration(SchemaIndexVerifier.class)
+                .run(context -> {
+                    assertNull(context.getStartupFailure());
+                    assertTrue(context.getBeansOfType(SchemaIndexVerifier.class).isEmpty());
+                });
+    }
+
+    private void createRequiredIndexes() {
+        jdbcTemplate.execute("create index idx_diary_date_id on diary (date, id)");
+        jdbcTemplate.execute("alter table weather_data add constraint uk_weather_data_city_date unique (city, date)");
+    }
+
+    private static Throwable rootCause(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,70 @@
+package faithcoderlab.dailyweatherlog.controller;
+
+import faithcoderlab.dailyweatherlog.config.WebConfig;
+import faithcoderlab.dailyweatherlog.service.DiaryService;
+import faithcoderlab.dailyweatherlog.service.DiaryVersionTracker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.isNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 비동기 요청 기본 제한 시간을 짧게 두고, 그보다 오래 걸리는 내보내기가 diary.export.timeout-ms 까지 끊기지 않는지 확인한다.
+ */
+@WebMvcTest(value = DiaryController.class, properties = {
+        "spring.mvc.async.request-timeout=200ms",
+        "diary.export.timeout-ms=10000"
+})
+@Import(WebConfig.class)
+class DiaryControllerExportTimeoutTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private DiaryService diaryService;
+
+    @MockBean
+    private DiaryVersionTracker diaryVersionTracker;
+
+    @Test
+    @DisplayName("기본 비동기 제한 시간보다 오래 걸리는 내보내기도 끝까지 응답 테스트")
+    void exportOutlivesDefaultAsyncTimeoutTest() throws Exception {
+        // given
+        String line = "{\"id\":1,\"date\":\"2024-12-01\"}\n";
+        doAnswer(invocation -> {
+            Thread.sleep(1000);
+            OutputStream outputStream = invocation.getArgument(2);
+            outputStream.write(line.getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(diaryService).exportDiaries(isNull(), isNull(), any(OutputStream.class));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/export/diaries"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        assertEquals(10000, result.getRequest().getAsyncContext().getTimeout());
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(line));
+    }
+}
@@ -1,27 +1,47 @@
 package faithcoderlab.dailyweatherlog.controller;
 
-import faithcoderlab.dailyweatherlog.model.Diary;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import faithcoderlab.dailyweatherlog.config.WebConfig;
+import faithcoderlab.dailyweatherlog.exception.DiaryVersionConflictException;
+import faithcoderlab.dailyweatherlog.exception.InvalidRequestException;
+import faithcoderlab.dailyweatherlog.model.DiaryColumns;
+import faithcoderlab.dailyweatherlog.model.DiaryView;
 import faithcoderlab.dailyweatherlog.service.DiaryService;
+import faithcoderlab.dailyweatherlog.service.DiaryVersionTracker;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(DiaryController.class)
+@Import(WebConfig.class)
 public class DiaryControllerTest {
 
     @Autowired
@@ -30,6 +50,18 @@ public class DiaryControllerTest {
     @MockBean
     private DiaryService diaryService;
 
+    @MockBean
+    private DiaryVersionTracker diaryVersionTracker;
+
+    @BeforeEach
+    void setUp() {
+        when(diaryVersionTracker.getVersion(any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(new DiaryVersionTracker.Version("1", Instant.parse("2024-12-31T00:00:00Z")));
+        when(diaryVersionTracker.readVersioned(any(LocalDate.class), any(LocalDate.class), any()))
+                .thenAnswer(invocation -> invocation.<Function<DiaryVersionTracker.Version, Object>>getArgument(2)
+                        .apply(diaryVersionTracker.getVersion(invocation.getArgument(0), invocation.getArgument(1))));
+    }
+
     @Test
     @DisplayName("일기 생성 테스트")
     void createDiaryTest() throws Exception {
@@ -48,21 +80,33 @@ public class DiaryControllerTest {
         verify(diaryService).createDiary(eq(date), eq(text));
     }
 
+    @Test
+    @DisplayName("일기 일괄 생성 테스트")
+    void createDiariesTest() throws Exception {
+        // given
+        String body = "[{\"date\": \"2024-12-30\", \"text\": \"첫 번째 일기\"},"
+                + "{\"date\": \"2024-12-31\", \"text\": \"두 번째 일기\"}]";
+        when(diaryService.createDiaries(anyList())).thenReturn(2);
+
+        // when & then
+        mockMvc.perform(post("/create/diaries")
+                        .content(body)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        verify(diaryService).createDiaries(eq(List.of(
+                new DiaryService.DiaryEntry(LocalDate.of(2024, 12, 30), "첫 번째 일기"),
+                new DiaryService.DiaryEntry(LocalDate.of(2024, 12, 31), "두 번째 일기"))));
+    }
+
     @Test
     @DisplayName("특정 날짜 일기 조회 테스트")
     void readDiaryTest() throws Exception {
         // given
         LocalDate date = LocalDate.of(2024, 12, 31);
-        List<Diary> diaries = new ArrayList<>();
-        diaries.add(Diary.builder()
-                .id(1L)
-                .date(date)
-                .text("테스트 일기입니다")
-                .weather("Clear")
-                .temperature(22.5)
-                .build());
+        List<DiaryView> diaries = List.of(new DiaryView(1L, date, "테스트 일기입니다", "Clear", 22.5, 0L));
 
-        when(diaryService.readDiary(any(LocalDate.class))).thenReturn(diaries);
+        when(diaryService.readDiary(any(LocalDate.class), anyBoolean())).thenReturn(diaries);
 
         // when & then
         mockMvc.perform(get("/read/diary")
@@ -74,7 +118,72 @@ public class DiaryControllerTest {
                 .andExpect(jsonPath("$[0].weather").value("Clear"))
                 .andExpect(jsonPath("$[0].temperature").value(22.5));
 
-        verify(diaryService).readDiary(eq(date));
+        verify(diaryService).readDiary(eq(date), eq(true));
+    }
+
+    @Test
+    @DisplayName("내용 없이 특정 날짜 일기 조회 테스트")
+    void readDiaryWithoutTextTest() throws Exception {
+        // given
+        LocalDate date = LocalDate.of(2024, 12, 31);
+        when(diaryService.readDiary(any(LocalDate.class), anyBoolean()))
+                .thenReturn(List.of(new DiaryView(1L, date, "Clear", 22.5, 0L)));
+
+        // when & then
+        mockMvc.perform(get("/read/diary")
+                        .param("date", "2024-12-31")
+                        .param("includeText", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].text").doesNotExist());
+
+        verify(diaryService).readDiary(eq(date), eq(false));
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 304 응답 테스트")
+    void readDiaryNotModifiedTest() throws Exception {
+        // given
+        LocalDate date = LocalDate.of(2024, 12, 31);
+        when(diaryService.readDiary(any(LocalDate.class), anyBoolean()))
+                .thenReturn(List.of(new DiaryView(1L, date, "테스트 일기입니다", "Clear", 22.5, 0L)));
+
+        String eTag = mockMvc.perform(get("/read/diary")
+                        .param("date", "2024-12-31"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        mockMvc.perform(get("/read/diary")
+                        .param("date", "2024-12-31")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        verify(diaryService, times(1)).readDiary(eq(date), eq(true));
+    }
+
+    @Test
+    @DisplayName("일기가 바뀌면 ETag 변경 테스트")
+    void readDiaryModifiedAfterChangeTest() throws Exception {
+        // given
+        LocalDate date = LocalDate.of(2024, 12, 31);
+        when(diaryService.readDiary(any(LocalDate.class), anyBoolean())).thenReturn(List.of());
+
+        String eTag = mockMvc.perform(get("/read/diary")
+                        .param("date", "2024-12-31"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        when(diaryVersionTracker.getVersion(date, date))
+                .thenReturn(new DiaryVersionTracker.Version("2", Instant.parse("2024-12-31T00:01:00Z")));
+
+        // when & then
+        mockMvc.perform(get("/read/diary")
+                        .param("date", "2024-12-31")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+
+        verify(diaryService, times(2)).readDiary(eq(date), eq(true));
     }
 
     @Test
@@ -84,23 +193,11 @@ public class DiaryControllerTest {
         LocalDate startDate = LocalDate.of(2024, 12, 1);
         LocalDate endDate = LocalDate.of(2024, 12, 31);
 
-        List<Diary> diaries = new ArrayList<>();
-        diaries.add(Diary.builder()
-                .id(1L)
-                .date(startDate)
-                .text("시작일 일기")
-                .weather("Cloudy")
-                .temperature(15.0)
-                .build());
-        diaries.add(Diary.builder()
-                .id(2L)
-                .date(endDate)
-                .text("종료일 일기")
-                .weather("Sunny")
-                .temperature(25.0)
-                .build());
-
-        when(diaryService.readDiaries(any(LocalDate.class), any(LocalDate.class))).thenReturn(diaries);
+        List<DiaryView> diaries = List.of(
+                new DiaryView(1L, startDate, "시작일 일기", "Cloudy", 15.0, 0L),
+                new DiaryView(2L, endDate, "종료일 일기", "Sunny", 25.0, 0L));
+
+        when(diaryService.readDiaries(any(LocalDate.class), any(LocalDate.class), anyBoolean())).thenReturn(diaries);
 
         // when & then
         mockMvc.perform(get("/read/diaries")
@@ -112,7 +209,145 @@ public class DiaryControllerTest {
                 .andExpect(jsonPath("$[1].id").value(2))
                 .andExpect(jsonPath("$[1].date").value("2024-12-31"));
 
-        verify(diaryService).readDiaries(eq(startDate), eq(endDate));
+        verify(diaryService).readDiaries(eq(startDate), eq(endDate), eq(true));
+    }
+
+    @Test
+    @DisplayName("기간별 일기 열 방향 조회 테스트")
+    void readDiaryColumnsTest() throws Exception {
+        // given
+        LocalDate startDate = LocalDate.of(2024, 12, 1);
+        LocalDate endDate = LocalDate.of(2024, 12, 31);
+        DiaryColumns columns = DiaryColumns.from(List.of(
+                new DiaryView(1L, startDate, "시작일 일기", "Cloudy", 15.0, 0L),
+                new DiaryView(2L, endDate, "종료일 일기", "Sunny", 25.0, 1L)), true);
+
+        when(diaryService.readDiaryColumns(startDate, endDate, true)).thenReturn(columns);
+
+        // when & then
+        mockMvc.perform(get("/read/diaries/columns")
+                        .param("startDate", "2024-12-01")
+                        .param("endDate", "2024-12-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(2))
+                .andExpect(jsonPath("$.id[1]").value(2))
+                .andExpect(jsonPath("$.text[0]").value("시작일 일기"))
+                .andExpect(jsonPath("$.temperature[1]").value(25.0));
+    }
+
+    @Test
+    @DisplayName("Smile 형식 응답 테스트")
+    void readDiariesAsSmileTest() throws Exception {
+        // given
+        LocalDate date = LocalDate.of(2024, 12, 31);
+        when(diaryService.readDiaries(any(LocalDate.class), any(LocalDate.class), anyBoolean()))
+                .thenReturn(List.of(new DiaryView(1L, date, "테스트 일기입니다", "Clear", 22.5, 0L)));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/read/diaries")
+                        .param("startDate", "2024-12-01")
+                        .param("endDate", "2024-12-31")
+                        .accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn();
+
+        // then
+        JsonNode body = new ObjectMapper(new SmileFactory()).readTree(result.getResponse().getContentAsByteArray());
+        assertEquals("테스트 일기입니다", body.get(0).get("text").asText());
+        assertEquals(22.5, body.get(0).get("temperature").asDouble());
+    }
+
+    @Test
+    @DisplayName("기간별 일기 페이지 조회 테스트")
+    void readDiaryPageTest() throws Exception {
+        // given
+        LocalDate startDate = LocalDate.of(2024, 12, 1);
+        LocalDate endDate = LocalDate.of(2024, 12, 31);
+
+        List<DiaryView> diaries = List.of(new DiaryView(1L, startDate, "시작일 일기", "Cloudy", 15.0, 0L));
+
+        when(diaryService.readDiaryPage(eq(startDate), eq(endDate), eq("cursor"), eq(1)))
+                .thenReturn(new DiaryService.DiaryPage(diaries, "next"));
+
+        // when & then
+        mockMvc.perform(get("/read/diaries/page")
+                        .param("startDate", "2024-12-01")
+                        .param("endDate", "2024-12-31")
+                        .param("cursor", "cursor")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.diaries[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @DisplayName("잘못된 페이지 커서로 요청시 400 응답 테스트")
+    void readDiaryPageInvalidCursorTest() throws Exception {
+        // given
+        when(diaryService.readDiaryPage(any(LocalDate.class), any(LocalDate.class), anyString(), any()))
+                .thenThrow(new InvalidRequestException("잘못된 페이지 커서입니다: broken"));
+
+        // when & then
+        mockMvc.perform(get("/read/diaries/page")
+                        .param("startDate", "2024-12-01")
+                        .param("endDate", "2024-12-31")
+                        .param("cursor", "broken"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BAD_REQUEST"));
+    }
+
+    @Test
+    @DisplayName("요청 검증 외의 IllegalArgumentException 은 500 응답 테스트")
+    void unexpectedIllegalArgumentTest() throws Exception {
+        // given
+        when(diaryService.readDiaryPage(any(LocalDate.class), any(LocalDate.class), any(), any()))
+                .thenThrow(new IllegalArgumentException("내부 오류"));
+
+        // when & then
+        mockMvc.perform(get("/read/diaries/page")
+                        .param("startDate", "2024-12-01")
+                        .param("endDate", "2024-12-31"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.code").value("INTERNAL_SERVER_ERROR"));
+    }
+
+    @Test
+    @DisplayName("일기 NDJSON 내보내기 테스트")
+    void exportDiariesTest() throws Exception {
+        // given
+        LocalDate startDate = LocalDate.of(2024, 12, 1);
+        LocalDate endDate = LocalDate.of(2024, 12, 31);
+        String line = "{\"id\":1,\"date\":\"2024-12-01\"}\n";
+
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(2);
+            outputStream.write(line.getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(diaryService).exportDiaries(eq(startDate), eq(endDate), any(OutputStream.class));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/export/diaries")
+                        .param("startDate", "2024-12-01")
+                        .param("endDate", "2024-12-31"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(content().string(line));
+    }
+
+    @Test
+    @DisplayName("내보내기 기간 중 하나만 지정시 400 응답 테스트")
+    void exportDiariesWithHalfOpenRangeTest() throws Exception {
+        mockMvc.perform(get("/export/diaries")
+                        .param("startDate", "2024-12-01"))
+                .andExpect(status().isBadRequest());
+
+        verify(diaryService, never()).exportDiaries(any(), any(), any());
     }
 
     @Test
@@ -132,6 +367,36 @@ public class DiaryControllerTest {
         verify(diaryService).updateDiary(eq(date), eq(newText));
     }
 
+    @Test
+    @DisplayName("id 와 버전으로 일기 수정 테스트")
+    void updateDiaryByIdTest() throws Exception {
+        // given
+        doNothing().when(diaryService).updateDiary(anyLong(), anyLong(), anyString());
+
+        // when & then
+        mockMvc.perform(put("/update/diary/7")
+                        .param("version", "2")
+                        .param("text", "수정된 일기 내용"))
+                .andExpect(status().isOk());
+
+        verify(diaryService).updateDiary(eq(7L), eq(2L), eq("수정된 일기 내용"));
+    }
+
+    @Test
+    @DisplayName("버전 충돌 시 409 응답 테스트")
+    void updateDiaryByIdConflictTest() throws Exception {
+        // given
+        doThrow(new DiaryVersionConflictException("다른 요청이 먼저 일기를 수정했습니다"))
+                .when(diaryService).updateDiary(anyLong(), anyLong(), anyString());
+
+        // when & then
+        mockMvc.perform(put("/update/diary/7")
+                        .param("version", "2")
+                        .param("text", "수정된 일기 내용"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("CONFLICT"));
+    }
+
     @Test
     @DisplayName("일기 삭제 테스트")
     void deleteDiaryTest() throws Exception {
@@ -147,6 +412,22 @@ public class DiaryControllerTest {
         verify(diaryService).deleteDiary(eq(date));
     }
 
+    @Test
+    @DisplayName("기간별 일기 삭제 테스트")
+    void deleteDiariesTest() throws Exception {
+        // given
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 12, 31);
+        when(diaryService.deleteDiaries(startDate, endDate)).thenReturn(new DiaryService.DeleteResult(7300));
+
+        // when & then
+        mockMvc.perform(delete("/delete/diaries")
+                        .param("startDate", "2024-01-01")
+                        .param("endDate", "2024-12-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(7300));
+    }
+
     @Test
     @DisplayName("잘못된 날짜 형식으로 요청시 실패 테스트")
     void invalidDateFormatTest() throws Exception {
@@ -0,0 +1,71 @@
+package faithcoderlab.dailyweatherlog.controller;
+
+import faithcoderlab.dailyweatherlog.exception.WriteBehindQueueFullException;
+import faithcoderlab.dailyweatherlog.service.DiaryService;
+import faithcoderlab.dailyweatherlog.service.DiaryVersionTracker;
+import faithcoderlab.dailyweatherlog.service.DiaryWriteBehindService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(DiaryController.class)
+class DiaryControllerWriteBehindTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private DiaryService diaryService;
+
+    @MockBean
+    private DiaryWriteBehindService diaryWriteBehindService;
+
+    @MockBean
+    private DiaryVersionTracker diaryVersionTracker;
+
+    @Test
+    @DisplayName("비동기 모드에서 일기 접수 테스트")
+    void createDiaryAcceptedTest() throws Exception {
+        // given
+        when(diaryWriteBehindService.submit(LocalDate.of(2024, 12, 31), "테스트 일기입니다")).thenReturn("accepted-id");
+
+        // when & then
+        mockMvc.perform(post("/create/diary")
+                        .param("date", "2024-12-31")
+                        .param("text", "테스트 일기입니다")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value("accepted-id"));
+
+        verify(diaryService, never()).createDiary(any(LocalDate.class), anyString());
+    }
+
+    @Test
+    @DisplayName("비동기 대기열이 가득 차면 503 응답 테스트")
+    void createDiaryQueueFullTest() throws Exception {
+        // given
+        when(diaryWriteBehindService.submit(any(LocalDate.class), anyString()))
+                .thenThrow(new WriteBehindQueueFullException("일기 저장 대기열이 가득 찼습니다"));
+
+        // when & then
+        mockMvc.perform(post("/create/diary")
+                        .param("date", "2024-12-31")
+                        .param("text", "테스트 일기입니다")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.code").value("SERVICE_UNAVAILABLE"));
+    }
+}
@@ -0,0 +1,39 @@
+package faithcoderlab.dailyweatherlog.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * DiarySearchService 빈이 없는 상태(diary.search.enabled=false)의 응답을 확인한다.
+ */
+@WebMvcTest(DiarySearchController.class)
+class DiarySearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("검색이 비활성화되어 있으면 검색 요청에 503 응답 테스트")
+    void searchDisabledTest() throws Exception {
+        mockMvc.perform(get("/search/diaries")
+                        .param("q", "산책"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.code").value("SERVICE_UNAVAILABLE"));
+    }
+
+    @Test
+    @DisplayName("검색이 비활성화되어 있으면 색인 재생성 요청에 503 응답 테스트")
+    void rebuildDisabledTest() throws Exception {
+        mockMvc.perform(post("/admin/search/rebuild"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.code").value("SERVICE_UNAVAILABLE"));
+    }
+}
@@ -98,6 +98,39 @@ class DiaryIntegrationTest {
         assertEquals(updatedText, diaries.get(0).getText());
     }
 
+    @Test
+    @DisplayName("버전이 지난 수정 요청은 409 통합 테스트")
+    void updateDiaryByIdVersionConflictTest() throws Exception {
+        // given
+        LocalDate today = LocalDate.now();
+
+        when(weatherService.getWeatherData(any(LocalDate.class)))
+                .thenReturn(new WeatherService.WeatherDto("Cloudy", 20.0));
+
+        mockMvc.perform(post("/create/diary")
+                        .param("date", today.toString())
+                        .param("text", "원본 일기"))
+                .andExpect(status().isOk());
+
+        Diary created = diaryRepository.findAllByDate(today).get(0);
+        String staleVersion = created.getVersion().toString();
+
+        mockMvc.perform(put("/update/diary/" + created.getId())
+                        .param("version", staleVersion)
+                        .param("text", "첫 번째 수정"))
+                .andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(put("/update/diary/" + created.getId())
+                        .param("version", staleVersion)
+                        .param("text", "두 번째 수정"))
+                .andExpect(status().isConflict());
+
+        Diary updated = diaryRepository.findById(created.getId()).orElseThrow();
+        assertEquals("첫 번째 수정", updated.getText());
+        assertEquals(created.getVersion() + 1, updated.getVersion());
+    }
+
     @Test
     @DisplayName("일기 삭제 통합 테스트")
     void deleteDiaryTest() throws Exception {
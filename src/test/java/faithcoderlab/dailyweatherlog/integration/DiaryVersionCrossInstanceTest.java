@@ -0,0 +1,108 @@
+package faithcoderlab.dailyweatherlog.integration;
+
+import faithcoderlab.dailyweatherlog.model.Diary;
+import faithcoderlab.dailyweatherlog.repository.DiaryDailyCountRepository;
+import faithcoderlab.dailyweatherlog.repository.DiaryRepository;
+import faithcoderlab.dailyweatherlog.service.DiaryVersionTracker;
+import faithcoderlab.dailyweatherlog.service.StatisticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 두 인스턴스가 같은 DB 를 쓰는 상황을 DiaryVersionTracker 두 개로 흉내 낸다.
+ * 한쪽에서 일기를 바꾸면 다른 쪽의 ETag 도 바뀌어야 하며, 내장 H2 를 MySQL 모드로 띄워 실제 upsert 쿼리를 실행한다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:diary-version;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StatisticsService.class)
+class DiaryVersionCrossInstanceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 12, 31);
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private DiaryDailyCountRepository diaryDailyCountRepository;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    private DiaryVersionTracker writingInstance;
+    private DiaryVersionTracker readingInstance;
+
+    @BeforeEach
+    void setUp() {
+        writingInstance = new DiaryVersionTracker(diaryDailyCountRepository);
+        readingInstance = new DiaryVersionTracker(diaryDailyCountRepository);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 만든 일기도 ETag 에 반영 테스트")
+    void otherInstanceCreateChangesVersionTest() {
+        // given
+        DiaryVersionTracker.Version before = readingInstance.getVersion(DATE, DATE);
+
+        // when
+        statisticsService.recordDiariesCreated(Map.of(DATE, 1));
+
+        // then
+        DiaryVersionTracker.Version after = readingInstance.getVersion(DATE, DATE);
+        assertNotEquals(before.tag(), after.tag());
+        assertEquals(writingInstance.getVersion(DATE, DATE), after);
+        assertNotEquals(before.tag(), readingInstance.getVersion(DATE.minusDays(30), DATE).tag());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 수정은 일기 수를 바꾸지 않고 버전만 올림 테스트")
+    void otherInstanceUpdateChangesVersionTest() {
+        // given
+        statisticsService.recordDiariesCreated(Map.of(DATE, 1));
+        DiaryVersionTracker.Version before = readingInstance.getVersion(DATE, DATE);
+
+        // when
+        statisticsService.recordDiaryUpdated(DATE);
+
+        // then
+        assertNotEquals(before.tag(), readingInstance.getVersion(DATE, DATE).tag());
+        assertEquals(1, statisticsService.getDailyDiaryCounts(DATE, DATE).get(0).count());
+    }
+
+    @Test
+    @DisplayName("일기가 모두 지워져도 버전은 이전 값으로 돌아가지 않음 테스트")
+    void deleteNeverRewindsVersionTest() {
+        // given
+        DiaryVersionTracker.Version empty = readingInstance.getVersion(DATE, DATE);
+        diaryRepository.save(Diary.builder().date(DATE).text("일기").weather("Clear").temperature(1.0).build());
+        statisticsService.recordDiariesCreated(Map.of(DATE, 1));
+        DiaryVersionTracker.Version created = readingInstance.getVersion(DATE, DATE);
+
+        // when
+        diaryRepository.deleteAllByDate(DATE);
+        statisticsService.recountDiaries(DATE, DATE);
+
+        // then
+        DiaryVersionTracker.Version deleted = readingInstance.getVersion(DATE, DATE);
+        assertNotEquals(created.tag(), deleted.tag());
+        assertNotEquals(empty.tag(), deleted.tag());
+        assertTrue(statisticsService.getDailyDiaryCounts(DATE, DATE).isEmpty());
+    }
+}
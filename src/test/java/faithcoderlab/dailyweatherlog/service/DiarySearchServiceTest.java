@@ -0,0 +1,210 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import faithcoderlab.dailyweatherlog.exception.InvalidRequestException;
+import faithcoderlab.dailyweatherlog.model.DiaryView;
+import faithcoderlab.dailyweatherlog.repository.DiaryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DiarySearchServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 7, 1);
+
+    @Mock
+    private DiaryRepository diaryRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private DiarySearchService diarySearchService;
+
+    @BeforeEach
+    void setUp() {
+        diarySearchService = new DiarySearchService(diaryRepository, new DiarySearchIndex(tempDir.resolve("index")),
+                Runnable::run, TransactionOperations.withoutTransaction(), 100, 2);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException, InterruptedException {
+        diarySearchService.shutdown();
+    }
+
+    @Test
+    @DisplayName("변경된 날짜의 일기를 색인하고 한글로 검색 테스트")
+    void indexChangedDateAndSearchTest() {
+        // given
+        DiaryView rainy = view(1L, DATE, "비가 와서 우산을 챙겼다", "Rain");
+        DiaryView sunny = view(2L, DATE, "맑아서 공원을 산책했다", "Clear");
+        when(diaryRepository.findViewsByDateBetween(DATE, DATE)).thenReturn(List.of(rainy, sunny));
+        when(diaryRepository.findViewsByIdIn(List.of(1L))).thenReturn(List.of(rainy));
+
+        // when
+        diarySearchService.onDiaryChanged(DiaryChangedEvent.of(DATE));
+        DiarySearchService.SearchResult result = diarySearchService.search("우산", null, null, null, 20);
+
+        // then
+        assertEquals(1, result.totalHits());
+        assertEquals(List.of(rainy), result.diaries());
+    }
+
+    @Test
+    @DisplayName("다시 색인하면 지워진 일기는 검색되지 않음 테스트")
+    void reindexRemovesDeletedDiariesTest() {
+        // given
+        DiaryView diary = view(1L, DATE, "비가 와서 우산을 챙겼다", "Rain");
+        when(diaryRepository.findViewsByDateBetween(DATE, DATE)).thenReturn(List.of(diary), List.of());
+        diarySearchService.onDiaryChanged(DiaryChangedEvent.of(DATE));
+
+        // when
+        diarySearchService.onDiaryChanged(DiaryChangedEvent.of(DATE));
+        DiarySearchService.SearchResult result = diarySearchService.search("우산", null, null, null, 20);
+
+        // then
+        assertEquals(0, result.totalHits());
+        assertTrue(result.diaries().isEmpty());
+        verify(diaryRepository, never()).findViewsByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("변경된 날짜는 읽기 전용이 아닌 트랜잭션(primary)에서 읽음 테스트")
+    void reindexReadsFromPrimaryTest() throws IOException, InterruptedException {
+        // given
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        DiarySearchService primaryReading = new DiarySearchService(diaryRepository,
+                new DiarySearchIndex(tempDir.resolve("primary-index")), Runnable::run,
+                new TransactionTemplate(transactionManager), 100, 2);
+        when(diaryRepository.findViewsByDateBetween(DATE, DATE)).thenReturn(List.of());
+
+        // when
+        primaryReading.onDiaryChanged(DiaryChangedEvent.of(DATE));
+        primaryReading.shutdown();
+
+        // then
+        verify(transactionManager).getTransaction(argThat((TransactionDefinition definition) -> !definition.isReadOnly()));
+        verify(transactionManager).commit(any());
+        verify(diaryRepository).findViewsByDateBetween(DATE, DATE);
+    }
+
+    @Test
+    @DisplayName("기간과 날씨로 검색 결과 필터링 테스트")
+    void searchFiltersByDateAndWeatherTest() {
+        // given
+        LocalDate nextDay = DATE.plusDays(1);
+        DiaryView rainy = view(1L, DATE, "coffee with a friend", "Rain");
+        DiaryView clear = view(2L, DATE, "coffee in the park", "Clear");
+        DiaryView nextRainy = view(3L, nextDay, "coffee again", "Rain");
+        when(diaryRepository.findViewsByDateBetween(DATE, nextDay)).thenReturn(List.of(rainy, clear, nextRainy));
+        when(diaryRepository.findViewsByIdIn(List.of(1L))).thenReturn(List.of(rainy));
+        diarySearchService.onDiaryChanged(new DiaryChangedEvent(DATE, nextDay));
+
+        // when
+        DiarySearchService.SearchResult result = diarySearchService.search("Coffee", DATE, DATE, "rain", 20);
+
+        // then
+        assertEquals(1, result.totalHits());
+        assertEquals(List.of(rainy), result.diaries());
+    }
+
+    @Test
+    @DisplayName("DB 에서 이미 지워진 검색 결과는 건너뜀 테스트")
+    void searchSkipsRowsMissingFromDatabaseTest() {
+        // given
+        DiaryView first = view(1L, DATE, "snow day", "Snow");
+        DiaryView second = view(2L, DATE, "snow again", "Snow");
+        when(diaryRepository.findViewsByDateBetween(DATE, DATE)).thenReturn(List.of(first, second));
+        when(diaryRepository.findViewsByIdIn(any())).thenReturn(List.of(second));
+        diarySearchService.onDiaryChanged(DiaryChangedEvent.of(DATE));
+
+        // when
+        DiarySearchService.SearchResult result = diarySearchService.search("snow", null, null, null, 20);
+
+        // then
+        assertEquals(2, result.totalHits());
+        assertEquals(List.of(second), result.diaries());
+    }
+
+    @Test
+    @DisplayName("DB 에서 페이지 단위로 색인 재생성 테스트")
+    void rebuildIndexTest() {
+        // given
+        DiaryView first = view(1L, DATE, "first walk", "Clear");
+        DiaryView second = view(2L, DATE, "second walk", "Clear");
+        DiaryView third = view(3L, DATE.plusDays(1), "third walk", "Clear");
+        when(diaryRepository.findViewsAfterId(eq(0L), any(Pageable.class))).thenReturn(List.of(first, second));
+        when(diaryRepository.findViewsAfterId(eq(2L), any(Pageable.class))).thenReturn(List.of(third));
+        when(diaryRepository.findViewsAfterId(eq(3L), any(Pageable.class))).thenReturn(List.of());
+        when(diaryRepository.findViewsByIdIn(any())).thenReturn(List.of(first, second, third));
+
+        // when
+        int indexed = diarySearchService.rebuild().join();
+        DiarySearchService.SearchResult result = diarySearchService.search("walk", null, null, null, 20);
+
+        // then
+        assertEquals(3, indexed);
+        assertEquals(3, result.totalHits());
+    }
+
+    @Test
+    @DisplayName("기동 시 색인 건수가 다르면 재생성 테스트")
+    void verifyOnStartupRebuildsWhenCountDiffersTest() {
+        // given
+        when(diaryRepository.count()).thenReturn(1L);
+        when(diaryRepository.findViewsAfterId(anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(view(1L, DATE, "restored", "Clear")), List.of());
+
+        // when
+        diarySearchService.verifyOnStartup();
+
+        // then
+        verify(diaryRepository, times(2)).findViewsAfterId(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("기동 시 색인 건수가 같으면 재생성하지 않음 테스트")
+    void verifyOnStartupSkipsWhenCountMatchesTest() {
+        // given
+        when(diaryRepository.count()).thenReturn(0L);
+
+        // when
+        diarySearchService.verifyOnStartup();
+
+        // then
+        verify(diaryRepository, never()).findViewsAfterId(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("빈 검색어와 잘못된 결과 수는 거절 테스트")
+    void invalidSearchTest() {
+        assertThrows(InvalidRequestException.class, () -> diarySearchService.search(" ", null, null, null, 20));
+        assertThrows(InvalidRequestException.class, () -> diarySearchService.search("rain", null, null, null, 101));
+        assertThrows(InvalidRequestException.class,
+                () -> diarySearchService.search("rain", DATE.plusDays(1), DATE, null, 20));
+    }
+
+    private static DiaryView view(Long id, LocalDate date, String text, String weather) {
+        return new DiaryView(id, date, text, weather, 20.0, 0L);
+    }
+}
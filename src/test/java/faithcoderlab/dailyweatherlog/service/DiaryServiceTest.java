@@ -1,18 +1,39 @@
 package faithcoderlab.dailyweatherlog.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import faithcoderlab.dailyweatherlog.exception.DiaryVersionConflictException;
+import faithcoderlab.dailyweatherlog.exception.InvalidRequestException;
 import faithcoderlab.dailyweatherlog.model.Diary;
+import faithcoderlab.dailyweatherlog.model.DiaryColumns;
+import faithcoderlab.dailyweatherlog.model.DiaryView;
 import faithcoderlab.dailyweatherlog.repository.DiaryRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -26,9 +47,35 @@ class DiaryServiceTest {
     @Mock
     private WeatherService weatherService;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private StatisticsService statisticsService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate();
+
     @InjectMocks
     private DiaryService diaryService;
 
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.setTransactionManager(transactionManager);
+        ReflectionTestUtils.setField(diaryService, "batchSize", 2);
+        ReflectionTestUtils.setField(diaryService, "defaultPageSize", 2);
+        ReflectionTestUtils.setField(diaryService, "maxPageSize", 10);
+    }
+
     @Test
     @DisplayName("일기 생성 테스트")
     void createDiaryTest() {
@@ -53,30 +100,171 @@ class DiaryServiceTest {
         assertEquals(22.0, savedDiary.getTemperature(), 0.1);
     }
 
+    @Test
+    @DisplayName("일기 생성 시 날씨 조회 후 INSERT 와 일기 수 갱신을 한 트랜잭션으로 수행 테스트")
+    void createDiaryInOneTransactionTest() {
+        // given
+        LocalDate date = LocalDate.of(2024, 12, 31);
+        when(weatherService.getWeatherData(date)).thenReturn(new WeatherService.WeatherDto("Clear", 22.0));
+
+        // when
+        diaryService.createDiary(date, "테스트 일기입니다");
+
+        // then
+        InOrder inOrder = inOrder(weatherService, transactionManager, diaryRepository, statisticsService);
+        inOrder.verify(weatherService).getWeatherData(date);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(diaryRepository).save(any(Diary.class));
+        inOrder.verify(statisticsService).recordDiariesCreated(Map.of(date, 1));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("INSERT 실패 시 일기 수 갱신 없이 롤백 테스트")
+    void createDiaryRollsBackCountWhenInsertFailsTest() {
+        // given
+        LocalDate date = LocalDate.of(2024, 12, 31);
+        when(weatherService.getWeatherData(date)).thenReturn(new WeatherService.WeatherDto("Clear", 22.0));
+        when(diaryRepository.save(any(Diary.class))).thenThrow(new DataIntegrityViolationException("insert failed"));
+
+        // when & then
+        assertThrows(DataIntegrityViolationException.class, () -> diaryService.createDiary(date, "테스트 일기입니다"));
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verify(statisticsService, never()).recordDiariesCreated(anyMap());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("일기 수 갱신 실패 시 INSERT 도 롤백 테스트")
+    void createDiaryRollsBackInsertWhenCountFailsTest() {
+        // given
+        LocalDate date = LocalDate.of(2024, 12, 31);
+        when(weatherService.getWeatherData(date)).thenReturn(new WeatherService.WeatherDto("Clear", 22.0));
+        doThrow(new DataIntegrityViolationException("count failed"))
+                .when(statisticsService).recordDiariesCreated(anyMap());
+
+        // when & then
+        assertThrows(DataIntegrityViolationException.class, () -> diaryService.createWeatherDiary(date));
+
+        verify(diaryRepository).save(any(Diary.class));
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    @DisplayName("일기 일괄 생성 테스트")
+    @SuppressWarnings("unchecked")
+    void createDiariesTest() {
+        // given
+        LocalDate firstDate = LocalDate.of(2024, 12, 30);
+        LocalDate secondDate = LocalDate.of(2024, 12, 31);
+
+        List<DiaryService.DiaryEntry> entries = List.of(
+                new DiaryService.DiaryEntry(firstDate, "첫 번째 일기"),
+                new DiaryService.DiaryEntry(firstDate, "두 번째 일기"),
+                new DiaryService.DiaryEntry(secondDate, "세 번째 일기"));
+
+        when(weatherService.getWeatherData(firstDate)).thenReturn(new WeatherService.WeatherDto("Clear", 20.0));
+        when(weatherService.getWeatherData(secondDate)).thenReturn(new WeatherService.WeatherDto("Rain", 12.0));
+
+        List<List<Diary>> savedBatches = new ArrayList<>();
+        when(diaryRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            savedBatches.add(new ArrayList<>((List<Diary>) invocation.getArgument(0)));
+            return invocation.getArgument(0);
+        });
+
+        // when
+        int created = diaryService.createDiaries(entries);
+
+        // then
+        assertEquals(3, created);
+        verify(weatherService, times(1)).getWeatherData(firstDate);
+        verify(weatherService, times(1)).getWeatherData(secondDate);
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+
+        assertEquals(2, savedBatches.size());
+        assertEquals(2, savedBatches.get(0).size());
+        assertEquals("Clear", savedBatches.get(0).get(1).getWeather());
+        assertEquals(1, savedBatches.get(1).size());
+        assertEquals("세 번째 일기", savedBatches.get(1).get(0).getText());
+        verify(eventPublisher).publishEvent(DiaryChangedEvent.of(firstDate));
+        verify(eventPublisher).publishEvent(DiaryChangedEvent.of(secondDate));
+        verify(statisticsService).recordDiariesCreated(Map.of(firstDate, 2, secondDate, 1));
+        assertEquals(12.0, savedBatches.get(1).get(0).getTemperature(), 0.1);
+    }
+
+    @Test
+    @DisplayName("일괄 생성 시 날씨 조회를 끝낸 뒤 트랜잭션 시작 테스트")
+    void createDiariesResolvesWeatherBeforeTransactionTest() {
+        // given
+        LocalDate firstDate = LocalDate.of(2024, 12, 30);
+        LocalDate secondDate = LocalDate.of(2024, 12, 31);
+
+        when(weatherService.getWeatherData(any(LocalDate.class))).thenReturn(new WeatherService.WeatherDto("Clear", 20.0));
+
+        // when
+        diaryService.createDiaries(List.of(
+                new DiaryService.DiaryEntry(firstDate, "첫 번째 일기"),
+                new DiaryService.DiaryEntry(secondDate, "두 번째 일기")));
+
+        // then
+        InOrder inOrder = inOrder(weatherService, transactionManager, diaryRepository);
+        inOrder.verify(weatherService, times(2)).getWeatherData(any(LocalDate.class));
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(diaryRepository).saveAll(anyList());
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("날짜 없는 항목 일괄 생성 시 예외 발생 테스트")
+    void createDiariesWithoutDateTest() {
+        // given
+        List<DiaryService.DiaryEntry> entries = List.of(new DiaryService.DiaryEntry(null, "날짜 없는 일기"));
+
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> diaryService.createDiaries(entries));
+        verify(diaryRepository, never()).saveAll(anyList());
+    }
+
     @Test
     @DisplayName("일기 조회 테스트")
     void readDiaryTest() {
         // given
         LocalDate date = LocalDate.of(2024, 12, 31);
-        List<Diary> expectedDiaries = new ArrayList<>();
-        expectedDiaries.add(Diary.builder()
-                .id(1L)
-                .date(date)
-                .text("테스트 일기")
-                .weather("Clear")
-                .temperature(22.0)
-                .build());
+        List<DiaryView> expectedDiaries = List.of(
+                new DiaryView(1L, date, "테스트 일기", "Clear", 22.0, 0L));
 
-        when(diaryRepository.findAllByDate(date)).thenReturn(expectedDiaries);
+        when(diaryRepository.findViewsByDate(date)).thenReturn(expectedDiaries);
 
         // when
-        List<Diary> actualDiaries = diaryService.readDiary(date);
+        List<DiaryView> actualDiaries = diaryService.readDiary(date);
 
         // then
         assertEquals(expectedDiaries.size(), actualDiaries.size());
-        assertEquals(expectedDiaries.get(0).getId(), actualDiaries.get(0).getId());
-        assertEquals(expectedDiaries.get(0).getText(), actualDiaries.get(0).getText());
-        verify(diaryRepository).findAllByDate(date);
+        assertEquals(1L, actualDiaries.get(0).id());
+        assertEquals("테스트 일기", actualDiaries.get(0).text());
+        verify(diaryRepository).findViewsByDate(date);
+        verify(diaryRepository, never()).findAllByDate(any(LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("내용 없이 일기 조회 테스트")
+    void readDiaryWithoutTextTest() {
+        // given
+        LocalDate date = LocalDate.of(2024, 12, 31);
+        when(diaryRepository.findViewsWithoutTextByDate(date))
+                .thenReturn(List.of(new DiaryView(1L, date, "Clear", 22.0, 0L)));
+
+        // when
+        List<DiaryView> actualDiaries = diaryService.readDiary(date, false);
+
+        // then
+        assertEquals(1, actualDiaries.size());
+        assertNull(actualDiaries.get(0).text());
+        verify(diaryRepository, never()).findViewsByDate(any(LocalDate.class));
     }
 
     @Test
@@ -86,32 +274,166 @@ class DiaryServiceTest {
         LocalDate startDate = LocalDate.of(2024, 12, 1);
         LocalDate endDate = LocalDate.of(2024, 12, 31);
 
-        List<Diary> expectedDiaries = new ArrayList<>();
-        expectedDiaries.add(Diary.builder()
-                .id(1L)
-                .date(startDate)
-                .text("시작일 일기")
-                .weather("Cloudy")
-                .temperature(15.0)
-                .build());
-        expectedDiaries.add(Diary.builder()
-                .id(2L)
-                .date(endDate)
-                .text("종료일 일기")
-                .weather("Sunny")
-                .temperature(25.0)
-                .build());
+        List<DiaryView> expectedDiaries = List.of(
+                new DiaryView(1L, startDate, "시작일 일기", "Cloudy", 15.0, 0L),
+                new DiaryView(2L, endDate, "종료일 일기", "Sunny", 25.0, 0L));
 
-        when(diaryRepository.findAllByDateBetween(startDate, endDate)).thenReturn(expectedDiaries);
+        when(diaryRepository.findViewsByDateBetween(startDate, endDate)).thenReturn(expectedDiaries);
 
         // when
-        List<Diary> actualDiaries = diaryService.readDiaries(startDate, endDate);
+        List<DiaryView> actualDiaries = diaryService.readDiaries(startDate, endDate);
 
         // then
         assertEquals(expectedDiaries.size(), actualDiaries.size());
-        assertEquals(expectedDiaries.get(0).getId(), actualDiaries.get(0).getId());
-        assertEquals(expectedDiaries.get(1).getId(), actualDiaries.get(1).getId());
-        verify(diaryRepository).findAllByDateBetween(startDate, endDate);
+        assertEquals(1L, actualDiaries.get(0).id());
+        assertEquals(2L, actualDiaries.get(1).id());
+        verify(diaryRepository).findViewsByDateBetween(startDate, endDate);
+    }
+
+    @Test
+    @DisplayName("내용 없이 기간별 일기 조회 테스트")
+    void readDiariesWithoutTextTest() {
+        // given
+        LocalDate startDate = LocalDate.of(2024, 12, 1);
+        LocalDate endDate = LocalDate.of(2024, 12, 31);
+        when(diaryRepository.findViewsWithoutTextByDateBetween(startDate, endDate))
+                .thenReturn(List.of(new DiaryView(1L, startDate, "Cloudy", 15.0, 0L)));
+
+        // when
+        List<DiaryView> actualDiaries = diaryService.readDiaries(startDate, endDate, false);
+
+        // then
+        assertEquals(1, actualDiaries.size());
+        assertNull(actualDiaries.get(0).text());
+        verify(diaryRepository, never()).findViewsByDateBetween(any(LocalDate.class), any(LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("기간별 일기 열 방향 조회 테스트")
+    void readDiaryColumnsTest() {
+        // given
+        LocalDate startDate = LocalDate.of(2024, 12, 1);
+        LocalDate endDate = LocalDate.of(2024, 12, 31);
+        when(diaryRepository.findViewsWithoutTextByDateBetween(startDate, endDate)).thenReturn(List.of(
+                new DiaryView(1L, startDate, "Cloudy", 15.0, 0L),
+                new DiaryView(2L, endDate, "Sunny", 25.0, 3L)));
+
+        // when
+        DiaryColumns columns = diaryService.readDiaryColumns(startDate, endDate, false);
+
+        // then
+        assertEquals(2, columns.size());
+        assertEquals(List.of(1L, 2L), columns.id());
+        assertEquals(List.of(startDate, endDate), columns.date());
+        assertNull(columns.text());
+        assertArrayEquals(new double[]{15.0, 25.0}, columns.temperature());
+        assertArrayEquals(new long[]{0L, 3L}, columns.version());
+    }
+
+    @Test
+    @DisplayName("기간별 일기 첫 페이지 조회 테스트")
+    void readDiaryFirstPageTest() {
+        // given
+        LocalDate startDate = LocalDate.of(2024, 12, 1);
+        LocalDate endDate = LocalDate.of(2024, 12, 31);
+
+        List<DiaryView> diaries = List.of(
+                new DiaryView(1L, startDate, "첫 번째", "Clear", 10.0, 0L),
+                new DiaryView(2L, startDate, "두 번째", "Clear", 10.0, 0L),
+                new DiaryView(3L, endDate, "세 번째", "Rain", 5.0, 0L));
+
+        when(diaryRepository.findViewPage(startDate, endDate, PageRequest.of(0, 3)))
+                .thenReturn(diaries);
+
+        // when
+        DiaryService.DiaryPage page = diaryService.readDiaryPage(startDate, endDate, null, null);
+
+        // then
+        assertEquals(2, page.diaries().size());
+        assertEquals(2L, page.diaries().get(1).id());
+        assertNotNull(page.nextCursor());
+
+        DiaryService.Cursor cursor = DiaryService.decodeCursor(page.nextCursor());
+        assertEquals(startDate, cursor.date());
+        assertEquals(2L, cursor.id());
+    }
+
+    @Test
+    @DisplayName("커서로 다음 페이지 조회 테스트")
+    void readDiaryNextPageTest() {
+        // given
+        LocalDate startDate = LocalDate.of(2024, 12, 1);
+        LocalDate endDate = LocalDate.of(2024, 12, 31);
+        String cursor = DiaryService.encodeCursor(new DiaryService.Cursor(startDate, 2L));
+
+        List<DiaryView> diaries = List.of(new DiaryView(3L, endDate, "세 번째", "Rain", 5.0, 0L));
+
+        when(diaryRepository.findViewPageAfter(startDate, endDate, startDate, 2L, PageRequest.of(0, 6)))
+                .thenReturn(diaries);
+
+        // when
+        DiaryService.DiaryPage page = diaryService.readDiaryPage(startDate, endDate, cursor, 5);
+
+        // then
+        assertEquals(1, page.diaries().size());
+        assertEquals(3L, page.diaries().get(0).id());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 및 페이지 크기 예외 테스트")
+    void readDiaryPageInvalidArgumentTest() {
+        // given
+        LocalDate startDate = LocalDate.of(2024, 12, 1);
+        LocalDate endDate = LocalDate.of(2024, 12, 31);
+
+        // when & then
+        assertThrows(InvalidRequestException.class,
+                () -> diaryService.readDiaryPage(startDate, endDate, "not-a-cursor", null));
+        assertThrows(InvalidRequestException.class,
+                () -> diaryService.readDiaryPage(startDate, endDate, null, 11));
+    }
+
+    @Test
+    @DisplayName("일기 NDJSON 내보내기 테스트")
+    void exportDiariesTest() throws Exception {
+        // given
+        LocalDate startDate = LocalDate.of(2024, 12, 1);
+        LocalDate endDate = LocalDate.of(2024, 12, 31);
+
+        Diary first = Diary.builder().id(1L).date(startDate).text("시작일 일기").weather("Cloudy").temperature(15.0).build();
+        Diary second = Diary.builder().id(2L).date(endDate).text("종료일 일기").weather("Sunny").temperature(25.0).build();
+
+        when(diaryRepository.streamAllByDateBetween(startDate, endDate)).thenReturn(Stream.of(first, second));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        long exported = diaryService.exportDiaries(startDate, endDate, outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, exported);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,"));
+        assertTrue(lines[0].contains("\"date\":\"2024-12-01\""));
+        assertTrue(lines[1].contains("\"text\":\"종료일 일기\""));
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    @DisplayName("기간 없이 전체 일기 내보내기 테스트")
+    void exportAllDiariesTest() throws Exception {
+        // given
+        when(diaryRepository.streamAll()).thenReturn(Stream.empty());
+
+        // when
+        long exported = diaryService.exportDiaries(null, null, new ByteArrayOutputStream());
+
+        // then
+        assertEquals(0, exported);
+        verify(diaryRepository).streamAll();
     }
 
     @Test
@@ -121,31 +443,17 @@ class DiaryServiceTest {
         LocalDate date = LocalDate.of(2024, 12, 31);
         String newText = "수정된 일기";
 
-        Diary existingDiary = Diary.builder()
-                .id(1L)
-                .date(date)
-                .text("원본 일기")
-                .weather("Cloudy")
-                .temperature(15.5)
-                .build();
-
-        List<Diary> diaries = new ArrayList<>();
-        diaries.add(existingDiary);
-
-        when(diaryRepository.findAllByDate(date)).thenReturn(diaries);
+        when(diaryRepository.findFirstIdByDate(date)).thenReturn(Optional.of(1L));
+        when(diaryRepository.updateText(1L, newText)).thenReturn(1);
 
         // when
         diaryService.updateDiary(date, newText);
 
         // then
-        ArgumentCaptor<Diary> diaryCaptor = ArgumentCaptor.forClass(Diary.class);
-        verify(diaryRepository).save(diaryCaptor.capture());
-
-        Diary updatedDiary = diaryCaptor.getValue();
-        assertEquals(date, updatedDiary.getDate());
-        assertEquals(newText, updatedDiary.getText());
-        assertEquals("Cloudy", updatedDiary.getWeather());
-        assertEquals(15.5, updatedDiary.getTemperature(), 0.1);
+        verify(diaryRepository).updateText(1L, newText);
+        verify(statisticsService).recordDiaryUpdated(date);
+        verify(diaryRepository, never()).findAllByDate(any(LocalDate.class));
+        verify(diaryRepository, never()).save(any(Diary.class));
     }
 
     @Test
@@ -155,14 +463,59 @@ class DiaryServiceTest {
         LocalDate date = LocalDate.of(2024, 12, 31);
         String newText = "수정할 일기";
 
-        when(diaryRepository.findAllByDate(date)).thenReturn(new ArrayList<>());
+        when(diaryRepository.findFirstIdByDate(date)).thenReturn(Optional.empty());
 
         // when & then
         Exception exception = assertThrows(RuntimeException.class,
                 () -> diaryService.updateDiary(date, newText));
 
         assertTrue(exception.getMessage().contains("해당 날짜의 일기가 존재하지 않습니다"));
-        verify(diaryRepository, never()).save(any(Diary.class));
+        verify(diaryRepository, never()).updateText(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("id 와 버전으로 일기 수정 테스트")
+    void updateDiaryByIdTest() {
+        // given
+        LocalDate date = LocalDate.of(2024, 12, 31);
+        when(diaryRepository.updateTextIfVersion(1L, 3L, "수정된 일기")).thenReturn(1);
+        when(diaryRepository.findDateById(1L)).thenReturn(Optional.of(date));
+
+        // when
+        diaryService.updateDiary(1L, 3L, "수정된 일기");
+
+        // then
+        verify(diaryRepository).updateTextIfVersion(1L, 3L, "수정된 일기");
+        verify(diaryRepository, never()).existsById(anyLong());
+        verify(statisticsService).recordDiaryUpdated(date);
+        verify(eventPublisher).publishEvent(DiaryChangedEvent.of(date));
+    }
+
+    @Test
+    @DisplayName("버전이 다르면 충돌 예외 발생 테스트")
+    void updateDiaryByIdVersionConflictTest() {
+        // given
+        when(diaryRepository.updateTextIfVersion(1L, 3L, "수정된 일기")).thenReturn(0);
+        when(diaryRepository.existsById(1L)).thenReturn(true);
+
+        // when & then
+        assertThrows(DiaryVersionConflictException.class,
+                () -> diaryService.updateDiary(1L, 3L, "수정된 일기"));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 id 수정 시 예외 발생 테스트")
+    void updateDiaryByIdWhenNoDiaryExistsTest() {
+        // given
+        when(diaryRepository.updateTextIfVersion(1L, 3L, "수정된 일기")).thenReturn(0);
+        when(diaryRepository.existsById(1L)).thenReturn(false);
+
+        // when & then
+        Exception exception = assertThrows(RuntimeException.class,
+                () -> diaryService.updateDiary(1L, 3L, "수정된 일기"));
+
+        assertFalse(exception instanceof DiaryVersionConflictException);
+        assertTrue(exception.getMessage().contains("해당 일기가 존재하지 않습니다"));
     }
 
     @Test
@@ -170,13 +523,71 @@ class DiaryServiceTest {
     void deleteDiaryTest() {
         // given
         LocalDate date = LocalDate.of(2024, 12, 31);
-        doNothing().when(diaryRepository).deleteAllByDate(date);
+        when(diaryRepository.deleteAllByDate(date)).thenReturn(3);
 
         // when
         diaryService.deleteDiary(date);
 
         // then
         verify(diaryRepository).deleteAllByDate(date);
+        verify(diaryRepository, never()).findAllByDate(any(LocalDate.class));
+        verify(eventPublisher).publishEvent(DiaryChangedEvent.of(date));
+        verify(statisticsService).recountDiaries(date, date);
+    }
+
+    @Test
+    @DisplayName("기간별 일기 청크 삭제 테스트")
+    void deleteDiariesInChunksTest() {
+        // given
+        ReflectionTestUtils.setField(diaryService, "deleteChunkSize", 2);
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 12, 31);
+
+        when(diaryRepository.findIdsByDateBetween(startDate, endDate, PageRequest.of(0, 2)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L, 4L))
+                .thenReturn(List.of(5L));
+
+        // when
+        DiaryService.DeleteResult result = diaryService.deleteDiaries(startDate, endDate);
+
+        // then
+        assertEquals(5, result.deletedCount());
+        verify(diaryRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(diaryRepository).deleteAllByIdInBatch(List.of(3L, 4L));
+        verify(diaryRepository).deleteAllByIdInBatch(List.of(5L));
+        verify(diaryRepository, times(3)).findIdsByDateBetween(startDate, endDate, PageRequest.of(0, 2));
+        verify(eventPublisher).publishEvent(new DiaryChangedEvent(startDate, endDate));
+        verify(statisticsService).recountDiaries(startDate, endDate);
+    }
+
+    @Test
+    @DisplayName("삭제할 일기가 청크 크기의 배수일 때 빈 청크에서 멈춤 테스트")
+    void deleteDiariesStopsOnEmptyChunkTest() {
+        // given
+        ReflectionTestUtils.setField(diaryService, "deleteChunkSize", 2);
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 1, 31);
+
+        when(diaryRepository.findIdsByDateBetween(startDate, endDate, PageRequest.of(0, 2)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of());
+
+        // when
+        DiaryService.DeleteResult result = diaryService.deleteDiaries(startDate, endDate);
+
+        // then
+        assertEquals(2, result.deletedCount());
+        verify(diaryRepository, times(1)).deleteAllByIdInBatch(anyIterable());
+    }
+
+    @Test
+    @DisplayName("잘못된 기간으로 일기 삭제 시 예외 테스트")
+    void deleteDiariesInvalidRangeTest() {
+        // when & then
+        assertThrows(InvalidRequestException.class,
+                () -> diaryService.deleteDiaries(LocalDate.of(2024, 12, 31), LocalDate.of(2024, 1, 1)));
+        verify(diaryRepository, never()).deleteAllByIdInBatch(anyIterable());
     }
 
     @Test
@@ -0,0 +1,101 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import faithcoderlab.dailyweatherlog.repository.DiaryDailyCountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DiaryVersionTrackerTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2024, 1, 31);
+
+    @Mock
+    private DiaryDailyCountRepository diaryDailyCountRepository;
+
+    @InjectMocks
+    private DiaryVersionTracker tracker;
+
+    @Test
+    @DisplayName("변경 기록이 없는 기간은 epoch 기준 버전 테스트")
+    void unchangedRangeTest() {
+        // given
+        when(diaryDailyCountRepository.summarizeVersions(START_DATE, END_DATE)).thenReturn(summary(0, null));
+
+        // when
+        DiaryVersionTracker.Version version = tracker.getVersion(START_DATE, END_DATE);
+
+        // then
+        assertEquals("0", version.tag());
+        assertEquals(Instant.EPOCH, version.lastModified());
+    }
+
+    @Test
+    @DisplayName("저장된 버전 합과 마지막 변경 시각으로 버전 계산 테스트")
+    void versionFromRollupTest() {
+        // given
+        when(diaryDailyCountRepository.summarizeVersions(START_DATE, END_DATE))
+                .thenReturn(summary(7, LocalDateTime.of(2024, 1, 15, 9, 30)))
+                .thenReturn(summary(8, LocalDateTime.of(2024, 1, 15, 9, 31)));
+
+        // when
+        DiaryVersionTracker.Version before = tracker.getVersion(START_DATE, END_DATE);
+        DiaryVersionTracker.Version after = tracker.getVersion(START_DATE, END_DATE);
+
+        // then
+        assertEquals(Instant.parse("2024-01-15T09:30:00Z"), before.lastModified());
+        assertNotEquals(before.tag(), after.tag());
+        assertEquals(Instant.parse("2024-01-15T09:31:00Z"), after.lastModified());
+    }
+
+    @Test
+    @DisplayName("본문 조회에는 같은 호출에서 읽은 버전을 넘김 테스트")
+    void readVersionedPassesVersionReadTest() {
+        // given
+        when(diaryDailyCountRepository.summarizeVersions(START_DATE, END_DATE))
+                .thenReturn(summary(3, LocalDateTime.of(2024, 1, 15, 9, 30)));
+
+        // when
+        String tag = tracker.readVersioned(START_DATE, END_DATE, DiaryVersionTracker.Version::tag);
+
+        // then
+        assertEquals("3", tag);
+        verify(diaryDailyCountRepository, times(1)).summarizeVersions(START_DATE, END_DATE);
+    }
+
+    @Test
+    @DisplayName("표현이 다르면 다른 ETag 테스트")
+    void variantChangesETagTest() {
+        // given
+        DiaryVersionTracker.Version version = new DiaryVersionTracker.Version("1", Instant.EPOCH);
+
+        // then
+        assertNotEquals(version.eTag("full"), version.eTag("summary"));
+        assertTrue(version.eTag("full").startsWith("W/\""));
+    }
+
+    private static DiaryDailyCountRepository.VersionSummary summary(long versionSum, LocalDateTime lastModified) {
+        return new DiaryDailyCountRepository.VersionSummary() {
+            @Override
+            public long getVersionSum() {
+                return versionSum;
+            }
+
+            @Override
+            public LocalDateTime getLastModified() {
+                return lastModified;
+            }
+        };
+    }
+}
@@ -0,0 +1,269 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import faithcoderlab.dailyweatherlog.exception.InvalidRequestException;
+import faithcoderlab.dailyweatherlog.exception.WeatherApiException;
+import faithcoderlab.dailyweatherlog.exception.WriteBehindQueueFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DiaryWriteBehindServiceTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private DiaryService diaryService;
+
+    @TempDir
+    Path tempDir;
+
+    private DiaryWriteBehindService writeBehindService;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writeBehindService != null) {
+            writeBehindService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("접수한 일기를 백그라운드에서 배치 저장 테스트")
+    void submitAndFlushTest() throws IOException {
+        // given
+        Path journalFile = tempDir.resolve("diary.journal");
+        writeBehindService = newService(journalFile, 10);
+        LocalDate date = LocalDate.of(2024, 12, 31);
+
+        // when
+        String id = writeBehindService.submit(date, "비동기 일기");
+
+        // then
+        assertNotNull(id);
+        verify(diaryService, timeout(2000)).createDiaries(List.of(new DiaryService.DiaryEntry(date, "비동기 일기")));
+        awaitEmptyJournal(journalFile);
+        assertEquals(0, Files.size(journalFile));
+    }
+
+    @Test
+    @DisplayName("재시작 시 저장되지 않은 접수 건 복구 테스트")
+    void recoverFromJournalTest() throws IOException {
+        // given
+        Path journalFile = tempDir.resolve("diary.journal");
+        Files.writeString(journalFile,
+                "A\tfirst\t2024-12-30\t" + encode("저장된 일기") + "\n"
+                        + "A\tsecond\t2024-12-31\t" + encode("복구할 일기\n두 줄") + "\n"
+                        + "C\tfirst\n"
+                        + "A\tfailed\t2024-12-29\t" + encode("포기한 일기") + "\n"
+                        + "F\tfailed\n"
+                        + "A\tthird\t2024-12-3");
+
+        // when
+        writeBehindService = newService(journalFile, 10);
+
+        // then
+        verify(diaryService, timeout(2000)).createDiaries(List.of(
+                new DiaryService.DiaryEntry(LocalDate.of(2024, 12, 31), "복구할 일기\n두 줄")));
+        verify(diaryService, times(1)).createDiaries(anyList());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 접수 거절 테스트")
+    void rejectWhenFullTest() throws InterruptedException {
+        // given
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(diaryService.createDiaries(anyList())).thenAnswer(invocation -> {
+            flushing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 1;
+        });
+        writeBehindService = newService(tempDir.resolve("diary.journal"), 1);
+        LocalDate date = LocalDate.of(2024, 12, 31);
+
+        // when
+        writeBehindService.submit(date, "첫 번째 일기");
+        assertTrue(flushing.await(5, TimeUnit.SECONDS));
+
+        // then
+        assertThrows(WriteBehindQueueFullException.class, () -> writeBehindService.submit(date, "두 번째 일기"));
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("저장 실패 시 같은 배치를 다시 시도 테스트")
+    void retryFailedBatchTest() {
+        // given
+        when(diaryService.createDiaries(anyList()))
+                .thenThrow(new RuntimeException("DB 연결 실패"))
+                .thenReturn(1);
+        writeBehindService = newService(tempDir.resolve("diary.journal"), 10);
+        LocalDate date = LocalDate.of(2024, 12, 31);
+
+        // when
+        writeBehindService.submit(date, "다시 시도할 일기");
+
+        // then
+        verify(diaryService, timeout(2000).times(2))
+                .createDiaries(List.of(new DiaryService.DiaryEntry(date, "다시 시도할 일기")));
+    }
+
+    @Test
+    @DisplayName("일기 자체의 오류로 배치가 실패하면 반씩 나눠 그 건만 포기하고 나머지는 배치로 저장 테스트")
+    void deadLetterPoisonEntryTest() throws IOException {
+        // given
+        Path journalFile = tempDir.resolve("diary.journal");
+        Files.writeString(journalFile,
+                "A\tfirst\t2024-12-27\t" + encode("첫 번째 일기") + "\n"
+                        + "A\tsecond\t2024-12-28\t" + encode("두 번째 일기") + "\n"
+                        + "A\tpoison\t2024-12-29\t" + encode("저장할 수 없는 일기") + "\n"
+                        + "A\tfourth\t2024-12-30\t" + encode("네 번째 일기") + "\n"
+                        + "A\tfifth\t2024-12-31\t" + encode("다섯 번째 일기") + "\n");
+        when(diaryService.createDiaries(anyList())).thenAnswer(invocation -> {
+            List<DiaryService.DiaryEntry> entries = invocation.getArgument(0);
+            if (entries.stream().anyMatch(entry -> entry.text().equals("저장할 수 없는 일기"))) {
+                throw new DataIntegrityViolationException("Data too long for column 'text'");
+            }
+            return entries.size();
+        });
+
+        // when
+        writeBehindService = newService(journalFile, 10);
+
+        // then
+        DiaryService.DiaryEntry poison = new DiaryService.DiaryEntry(LocalDate.of(2024, 12, 29), "저장할 수 없는 일기");
+        verify(diaryService, timeout(2000)).createDiaries(List.of(
+                new DiaryService.DiaryEntry(LocalDate.of(2024, 12, 30), "네 번째 일기"),
+                new DiaryService.DiaryEntry(LocalDate.of(2024, 12, 31), "다섯 번째 일기")));
+        verify(diaryService).createDiaries(List.of(
+                new DiaryService.DiaryEntry(LocalDate.of(2024, 12, 27), "첫 번째 일기"),
+                new DiaryService.DiaryEntry(LocalDate.of(2024, 12, 28), "두 번째 일기")));
+        verify(diaryService, times(MAX_ATTEMPTS)).createDiaries(List.of(poison));
+
+        awaitEmptyJournal(journalFile);
+        assertEquals(0, Files.size(journalFile));
+        assertEquals(1, writeBehindService.getDeadLetteredCount());
+        assertEquals(0, writeBehindService.getUnsavedCount());
+        assertTrue(Files.readString(tempDir.resolve("diary.journal.failed")).startsWith("A\tpoison\t2024-12-29\t"));
+    }
+
+    @Test
+    @DisplayName("일시적 장애는 시도 횟수를 넘겨도 포기하지 않고 배치 전체를 다시 저장 테스트")
+    void transientFailureNeverDeadLettersTest() throws IOException {
+        // given
+        Path journalFile = tempDir.resolve("diary.journal");
+        Files.writeString(journalFile,
+                "A\tfirst\t2024-12-30\t" + encode("첫 번째 일기") + "\n"
+                        + "A\tsecond\t2024-12-31\t" + encode("두 번째 일기") + "\n");
+        RuntimeException outage = new CannotCreateTransactionException("DB 연결 실패");
+        when(diaryService.createDiaries(anyList()))
+                .thenThrow(outage, outage, outage, outage, outage)
+                .thenReturn(2);
+
+        // when
+        writeBehindService = newService(journalFile, 10);
+
+        // then
+        verify(diaryService, timeout(3000).times(MAX_ATTEMPTS + 3)).createDiaries(List.of(
+                new DiaryService.DiaryEntry(LocalDate.of(2024, 12, 30), "첫 번째 일기"),
+                new DiaryService.DiaryEntry(LocalDate.of(2024, 12, 31), "두 번째 일기")));
+        awaitEmptyJournal(journalFile);
+        assertEquals(0, writeBehindService.getDeadLetteredCount());
+        assertEquals(0, writeBehindService.getUnsavedCount());
+        assertFalse(Files.exists(tempDir.resolve("diary.journal.failed")));
+    }
+
+    @Test
+    @DisplayName("검증 실패와 제약 조건 SQLState 만 일기 자체의 오류로 판단 테스트")
+    void classifyEntryErrorsTest() {
+        assertTrue(DiaryWriteBehindService.isEntryError(new InvalidRequestException("잘못된 일기")));
+        assertTrue(DiaryWriteBehindService.isEntryError(new DataIntegrityViolationException("duplicate")));
+        assertTrue(DiaryWriteBehindService.isEntryError(
+                new RuntimeException("flush failed", new SQLException("Data too long", "22001"))));
+        assertFalse(DiaryWriteBehindService.isEntryError(
+                new RuntimeException("flush failed", new SQLException("Communications link failure", "08S01"))));
+        assertFalse(DiaryWriteBehindService.isEntryError(new WeatherApiException("Weather API circuit breaker is open", 0, null)));
+        assertFalse(DiaryWriteBehindService.isEntryError(new RuntimeException("DB 연결 실패")));
+    }
+
+    @Test
+    @DisplayName("255자를 넘는 일기는 접수 시 거절 테스트")
+    void rejectTooLongTextTest() {
+        // given
+        writeBehindService = newService(tempDir.resolve("diary.journal"), 10);
+        LocalDate date = LocalDate.of(2024, 12, 31);
+
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> writeBehindService.submit(date, "가".repeat(256)));
+        assertDoesNotThrow(() -> writeBehindService.submit(date, "가".repeat(255)));
+    }
+
+    @Test
+    @DisplayName("종료 시 저장하지 못한 건수를 남기고 저널에 보존 테스트")
+    void shutdownReportsUnsavedTest() throws Exception {
+        // given
+        Path journalFile = tempDir.resolve("diary.journal");
+        when(diaryService.createDiaries(anyList())).thenThrow(new RuntimeException("DB 연결 실패"));
+        writeBehindService = newService(journalFile, 10);
+        writeBehindService.submit(LocalDate.of(2024, 12, 31), "남겨질 일기");
+        verify(diaryService, timeout(2000)).createDiaries(anyList());
+
+        // when
+        writeBehindService.shutdown();
+
+        // then
+        assertEquals(1, writeBehindService.getUnsavedCount());
+        assertEquals(0, writeBehindService.getDeadLetteredCount());
+        assertTrue(Files.readString(journalFile).startsWith("A\t"));
+    }
+
+    @Test
+    @DisplayName("날짜 없는 일기 접수 시 예외 테스트")
+    void submitWithoutDateTest() {
+        // given
+        writeBehindService = newService(tempDir.resolve("diary.journal"), 10);
+
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> writeBehindService.submit(null, "내용"));
+    }
+
+    private DiaryWriteBehindService newService(Path journalFile, int capacity) {
+        return new DiaryWriteBehindService(diaryService, new SimpleMeterRegistry(),
+                new DiaryWriteBehindJournal(journalFile, false), capacity, 100, MAX_ATTEMPTS,
+                Duration.ofMillis(20), Duration.ofMillis(50));
+    }
+
+    private static String encode(String text) {
+        return Base64.getEncoder().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void awaitEmptyJournal(Path journalFile) throws IOException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (Files.size(journalFile) > 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+}
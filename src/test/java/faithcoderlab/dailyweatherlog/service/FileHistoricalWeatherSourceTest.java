@@ -0,0 +1,54 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileHistoricalWeatherSourceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("CSV 파일에서 과거 날씨 조회 테스트")
+    void fetchFromFileTest() throws IOException {
+        // given
+        Path file = tempDir.resolve("history.csv");
+        Files.writeString(file, """
+                city,date,weather,temperature
+                # comment
+                Seoul,2024-01-01,Snow,-3.5
+
+                Busan,2024-01-01,Clear,4.0
+                """);
+
+        // when
+        FileHistoricalWeatherSource source = new FileHistoricalWeatherSource(file);
+
+        // then
+        Optional<WeatherService.WeatherDto> seoul = source.fetch("Seoul", LocalDate.of(2024, 1, 1));
+        assertTrue(seoul.isPresent());
+        assertEquals("Snow", seoul.get().description());
+        assertEquals(-3.5, seoul.get().temperature(), 0.01);
+        assertTrue(source.fetch("Seoul", LocalDate.of(2024, 1, 2)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("잘못된 형식의 CSV 파일 예외 테스트")
+    void invalidFileTest() throws IOException {
+        // given
+        Path file = tempDir.resolve("history.csv");
+        Files.writeString(file, "Seoul,2024-01-01,Snow\n");
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> new FileHistoricalWeatherSource(file));
+    }
+}
@@ -0,0 +1,150 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import faithcoderlab.dailyweatherlog.model.WeatherMonthlyStats;
+import faithcoderlab.dailyweatherlog.repository.DiaryDailyCountRepository;
+import faithcoderlab.dailyweatherlog.repository.DiaryRepository;
+import faithcoderlab.dailyweatherlog.repository.WeatherDataRepository;
+import faithcoderlab.dailyweatherlog.repository.WeatherMonthlyConditionRepository;
+import faithcoderlab.dailyweatherlog.repository.WeatherMonthlyStatsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatisticsServiceTest {
+
+    @Mock
+    private WeatherMonthlyStatsRepository weatherMonthlyStatsRepository;
+
+    @Mock
+    private WeatherMonthlyConditionRepository weatherMonthlyConditionRepository;
+
+    @Mock
+    private DiaryDailyCountRepository diaryDailyCountRepository;
+
+    @Mock
+    private WeatherDataRepository weatherDataRepository;
+
+    @Mock
+    private DiaryRepository diaryRepository;
+
+    @InjectMocks
+    private StatisticsService statisticsService;
+
+    @Test
+    @DisplayName("저장된 날씨가 속한 도시·월만 한 번씩 다시 집계 테스트")
+    void refreshWeatherMonthsTest() {
+        // when
+        statisticsService.refreshWeatherMonths(List.of(
+                new WeatherDataRepository.CityDate("Seoul", LocalDate.of(2024, 12, 1)),
+                new WeatherDataRepository.CityDate("Seoul", LocalDate.of(2024, 12, 31)),
+                new WeatherDataRepository.CityDate("Busan", LocalDate.of(2024, 12, 15))));
+
+        // then
+        verify(weatherMonthlyStatsRepository, times(1))
+                .insertAggregated("Seoul", LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 31));
+        verify(weatherMonthlyStatsRepository, times(1))
+                .insertAggregated("Busan", LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 31));
+        verify(weatherMonthlyConditionRepository, times(2)).deleteByCityAndMonthStart(anyString(), eq(LocalDate.of(2024, 12, 1)));
+        verify(weatherMonthlyConditionRepository, times(2)).insertAggregated(anyString(), any(LocalDate.class), any(LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("월별 기온 통계의 평균 계산 테스트")
+    void getMonthlyWeatherTest() {
+        // given
+        when(weatherMonthlyStatsRepository.findAllByCityAndMonthStartBetweenOrderByMonthStartAsc(
+                "Seoul", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1)))
+                .thenReturn(List.of(WeatherMonthlyStats.builder()
+                        .city("Seoul")
+                        .monthStart(LocalDate.of(2024, 1, 1))
+                        .minTemperature(-8.0)
+                        .maxTemperature(4.0)
+                        .temperatureSum(-31.0)
+                        .dayCount(31)
+                        .build()));
+
+        // when
+        List<StatisticsService.MonthlyWeather> result =
+                statisticsService.getMonthlyWeather("Seoul", YearMonth.of(2024, 1), YearMonth.of(2024, 2));
+
+        // then
+        assertEquals(1, result.size());
+        assertEquals(YearMonth.of(2024, 1), result.get(0).month());
+        assertEquals(-8.0, result.get(0).minTemperature());
+        assertEquals(-1.0, result.get(0).averageTemperature(), 0.001);
+        assertEquals(31, result.get(0).days());
+    }
+
+    @Test
+    @DisplayName("삭제 기간의 일기 수 재계산 테스트")
+    void recountDiariesTest() {
+        // given
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 1, 31);
+
+        // when
+        statisticsService.recountDiaries(startDate, endDate);
+
+        // then
+        InOrder inOrder = inOrder(diaryDailyCountRepository);
+        inOrder.verify(diaryDailyCountRepository).resetBetween(eq(startDate), eq(endDate), any(LocalDateTime.class));
+        inOrder.verify(diaryDailyCountRepository).upsertCounted(eq(startDate), eq(endDate), any(LocalDateTime.class));
+        verify(diaryDailyCountRepository, never()).deleteAll();
+    }
+
+    @Test
+    @DisplayName("일기 생성과 수정은 날짜의 버전을 올림 테스트")
+    void recordDiaryChangesTest() {
+        // given
+        LocalDate date = LocalDate.of(2024, 1, 1);
+
+        // when
+        statisticsService.recordDiariesCreated(Map.of(date, 2));
+        statisticsService.recordDiaryUpdated(date);
+
+        // then
+        verify(diaryDailyCountRepository).increment(eq(date), eq(2), any(LocalDateTime.class));
+        verify(diaryDailyCountRepository).increment(eq(date), eq(0), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("통계 재생성 테스트")
+    void rebuildTest() {
+        // given
+        when(weatherDataRepository.findCityMonths()).thenReturn(List.of(
+                new Object[]{"Seoul", LocalDate.of(2024, 1, 3)},
+                new Object[]{"Seoul", LocalDate.of(2024, 2, 1)}));
+        when(diaryRepository.findMinDate()).thenReturn(LocalDate.of(2024, 1, 1));
+        when(diaryRepository.findMaxDate()).thenReturn(LocalDate.of(2024, 2, 29));
+        when(diaryDailyCountRepository.countByDiaryCountGreaterThan(0)).thenReturn(45L);
+
+        // when
+        StatisticsService.RebuildResult result = statisticsService.rebuild();
+
+        // then
+        assertEquals(2, result.weatherMonths());
+        assertEquals(45, result.diaryDays());
+        verify(weatherMonthlyStatsRepository).deleteAllRows();
+        verify(diaryDailyCountRepository).resetAll(any(LocalDateTime.class));
+        verify(diaryDailyCountRepository).upsertCounted(
+                eq(LocalDate.of(2024, 1, 1)), eq(LocalDate.of(2024, 2, 29)), any(LocalDateTime.class));
+        verify(weatherMonthlyStatsRepository)
+                .insertAggregated("Seoul", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+        verify(weatherMonthlyStatsRepository)
+                .insertAggregated("Seoul", LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29));
+    }
+}
@@ -0,0 +1,180 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import faithcoderlab.dailyweatherlog.exception.InvalidRequestException;
+import faithcoderlab.dailyweatherlog.repository.WeatherDataRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TemperatureSeriesServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 1);
+
+    @Mock
+    private WeatherDataRepository weatherDataRepository;
+
+    @InjectMocks
+    private TemperatureSeriesService temperatureSeriesService;
+
+    @Test
+    @DisplayName("첫 분석 요청은 weather_data 불러오기를 기다린 뒤 요약 계산 테스트")
+    void loadAndSummaryTest() {
+        // given
+        when(weatherDataRepository.findDistinctCities()).thenReturn(List.of("Seoul"));
+        when(weatherDataRepository.findByCity("Seoul")).thenReturn(List.of(
+                new WeatherDataRepository.DateTemperature(DATE, 1.0),
+                new WeatherDataRepository.DateTemperature(DATE.plusDays(1), 3.0),
+                new WeatherDataRepository.DateTemperature(DATE.plusDays(3), 2.0),
+                new WeatherDataRepository.DateTemperature(DATE.plusDays(4), 10.0)));
+
+        // when
+        TemperatureSeriesService.TemperatureSummary summary = temperatureSeriesService.getSummary(
+                "Seoul", DATE, DATE.plusDays(4), List.of(0.0, 50.0, 75.0, 100.0));
+
+        // then
+        assertEquals(4, summary.days());
+        assertEquals(1.0, summary.min(), 0.0001);
+        assertEquals(10.0, summary.max(), 0.0001);
+        assertEquals(9.0, summary.range(), 0.0001);
+        assertEquals(4.0, summary.mean(), 0.0001);
+        assertEquals(1.0, summary.percentiles().get(0).value(), 0.0001);
+        assertEquals(2.5, summary.percentiles().get(1).value(), 0.0001);
+        assertEquals(4.75, summary.percentiles().get(2).value(), 0.0001);
+        assertEquals(10.0, summary.percentiles().get(3).value(), 0.0001);
+        verify(weatherDataRepository, times(1)).findDistinctCities();
+    }
+
+    @Test
+    @DisplayName("불러오기 전에 커밋된 날씨는 불러온 이전 값으로 덮어쓰지 않음 테스트")
+    void loadKeepsNewerEventValueTest() {
+        // given
+        when(weatherDataRepository.findDistinctCities()).thenReturn(List.of("Seoul"));
+        when(weatherDataRepository.findByCity("Seoul")).thenReturn(List.of(
+                new WeatherDataRepository.DateTemperature(DATE, 1.0),
+                new WeatherDataRepository.DateTemperature(DATE.plusDays(1), 3.0)));
+        temperatureSeriesService.onWeatherSaved(new WeatherSavedEvent(List.of(
+                new WeatherService.CityWeather("Seoul", DATE, new WeatherService.WeatherDto("Rain", 5.0)))));
+
+        // when
+        temperatureSeriesService.startLoading().join();
+        TemperatureSeriesService.TemperatureSummary summary = temperatureSeriesService.getSummary(
+                "Seoul", DATE, DATE.plusDays(1), List.of(50.0));
+
+        // then
+        assertEquals(5.0, summary.min(), 0.0001);
+        assertEquals(4.0, summary.mean(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("불러오기에 실패하면 다음 분석 요청이 다시 불러옴 테스트")
+    void failedLoadRetriedTest() {
+        // given
+        when(weatherDataRepository.findDistinctCities())
+                .thenThrow(new RuntimeException("Database unavailable"))
+                .thenReturn(List.of("Seoul"));
+        when(weatherDataRepository.findByCity("Seoul"))
+                .thenReturn(List.of(new WeatherDataRepository.DateTemperature(DATE, 2.0)));
+
+        // when
+        assertThrows(CompletionException.class,
+                () -> temperatureSeriesService.getSummary("Seoul", DATE, DATE, List.of(50.0)));
+        TemperatureSeriesService.TemperatureSummary summary = temperatureSeriesService.getSummary(
+                "Seoul", DATE, DATE, List.of(50.0));
+
+        // then
+        assertEquals(2.0, summary.mean(), 0.0001);
+        verify(weatherDataRepository, times(2)).findDistinctCities();
+    }
+
+    @Test
+    @DisplayName("커밋된 날씨 저장을 시계열에 반영하고 기존 값을 덮어씀 테스트")
+    void onWeatherSavedTest() {
+        // given
+        temperatureSeriesService.onWeatherSaved(new WeatherSavedEvent(List.of(
+                new WeatherService.CityWeather("Busan", DATE, new WeatherService.WeatherDto("Clear", 5.0)))));
+
+        // when
+        temperatureSeriesService.onWeatherSaved(new WeatherSavedEvent(List.of(
+                new WeatherService.CityWeather("Busan", DATE, new WeatherService.WeatherDto("Rain", 7.0)))));
+        TemperatureSeriesService.TemperatureSummary summary = temperatureSeriesService.getSummary(
+                "Busan", DATE, DATE, List.of(50.0));
+
+        // then
+        assertEquals(1, summary.days());
+        assertEquals(7.0, summary.mean(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("기온이 없는 도시의 요약은 null 값 테스트")
+    void emptySummaryTest() {
+        // when
+        TemperatureSeriesService.TemperatureSummary summary = temperatureSeriesService.getSummary(
+                "Atlantis", DATE, DATE.plusDays(30), List.of(50.0));
+
+        // then
+        assertEquals(0, summary.days());
+        assertNull(summary.min());
+        assertNull(summary.mean());
+        assertNull(summary.percentiles().get(0).value());
+    }
+
+    @Test
+    @DisplayName("이동 평균은 기간 이전 데이터를 쓰고 빈 날은 건너뜀 테스트")
+    void movingAverageTest() {
+        // given
+        for (int day = 0; day < 5; day++) {
+            if (day == 3) {
+                continue;
+            }
+            temperatureSeriesService.onWeatherSaved(new WeatherSavedEvent(List.of(new WeatherService.CityWeather(
+                    "Seoul", DATE.plusDays(day), new WeatherService.WeatherDto("Clear", day * 2.0)))));
+        }
+
+        // when
+        TemperatureSeriesService.MovingAverage average = temperatureSeriesService.getMovingAverage(
+                "Seoul", DATE.plusDays(1), DATE.plusDays(6), 2);
+
+        // then
+        assertArrayEquals(new Double[]{1.0, 3.0, 4.0, 8.0, 8.0, null}, average.values());
+    }
+
+    @Test
+    @DisplayName("청크 경계를 넘는 기간 조회 테스트")
+    void sliceAcrossChunksTest() {
+        // given
+        TemperatureSeries series = new TemperatureSeries();
+        LocalDate start = LocalDate.ofEpochDay(TemperatureSeries.CHUNK_DAYS - 2L);
+        for (int day = 0; day < 4; day++) {
+            series.put(start.plusDays(day), day);
+        }
+
+        // when
+        double[] values = series.slice(start.minusDays(1), start.plusDays(4));
+
+        // then
+        assertEquals(2, series.chunkCount());
+        assertArrayEquals(new double[]{Double.NaN, 0, 1, 2, 3, Double.NaN}, values);
+    }
+
+    @Test
+    @DisplayName("잘못된 기간, 백분위, 이동 평균 기간은 거절 테스트")
+    void invalidArgumentsTest() {
+        assertThrows(InvalidRequestException.class,
+                () -> temperatureSeriesService.getSummary("Seoul", DATE.plusDays(1), DATE, List.of(50.0)));
+        assertThrows(InvalidRequestException.class,
+                () -> temperatureSeriesService.getSummary("Seoul", DATE, DATE, List.of(101.0)));
+        assertThrows(InvalidRequestException.class,
+                () -> temperatureSeriesService.getMovingAverage("Seoul", DATE, DATE, 0));
+    }
+}
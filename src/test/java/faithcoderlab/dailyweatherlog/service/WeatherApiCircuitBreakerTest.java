@@ -0,0 +1,163 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import faithcoderlab.dailyweatherlog.exception.WeatherApiException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherApiCircuitBreakerTest {
+
+    private MutableClock clock;
+    private WeatherApiCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-12-31T00:00:00Z"));
+        circuitBreaker = new WeatherApiCircuitBreaker(3, Duration.ofSeconds(30), clock);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 닿으면 회로 열림 테스트")
+    void opensAfterConsecutiveFailuresTest() {
+        // when
+        for (int i = 0; i < 2; i++) {
+            assertTrue(circuitBreaker.tryAcquire());
+            circuitBreaker.recordFailure();
+        }
+        assertEquals(WeatherApiCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+        assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.recordFailure();
+
+        // then
+        assertEquals(WeatherApiCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+        assertEquals(1, circuitBreaker.getRejectedCount());
+        assertEquals(Duration.ofSeconds(30), circuitBreaker.getRetryDelay());
+    }
+
+    @Test
+    @DisplayName("성공하면 연속 실패 횟수 초기화 테스트")
+    void successResetsFailuresTest() {
+        // when
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordSuccess();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+
+        // then
+        assertEquals(WeatherApiCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("열림 시간이 지나면 시험 호출 하나만 허용 테스트")
+    void halfOpenAllowsSingleTrialTest() {
+        // given
+        openCircuit();
+        clock.advance(Duration.ofSeconds(30));
+
+        // when & then
+        assertTrue(circuitBreaker.tryAcquire());
+        assertEquals(WeatherApiCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+
+        circuitBreaker.recordSuccess();
+        assertEquals(WeatherApiCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("시험 호출 실패 시 회로 다시 열림 테스트")
+    void halfOpenFailureReopensTest() {
+        // given
+        openCircuit();
+        clock.advance(Duration.ofSeconds(30));
+        assertTrue(circuitBreaker.tryAcquire());
+
+        // when
+        circuitBreaker.recordFailure();
+
+        // then
+        assertEquals(WeatherApiCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+        assertEquals(Duration.ofSeconds(30), circuitBreaker.getRetryDelay());
+    }
+
+    @Test
+    @DisplayName("연결 실패, 타임아웃, 5xx 만 회로 실패로 분류 테스트")
+    void classifyUpstreamFailuresTest() {
+        assertTrue(WeatherApiCircuitBreaker.isUpstreamFailure(new WeatherApiException("timeout", 0, null)));
+        assertTrue(WeatherApiCircuitBreaker.isUpstreamFailure(new WeatherApiException("unavailable", 503, null)));
+        assertTrue(WeatherApiCircuitBreaker.isUpstreamFailure(new CompletionException(
+                new RuntimeException("Failed to get weather data", new WeatherApiException("reset", 0, null)))));
+        assertFalse(WeatherApiCircuitBreaker.isUpstreamFailure(new WeatherApiException("not found", 404, null)));
+        assertFalse(WeatherApiCircuitBreaker.isUpstreamFailure(new WeatherApiException("rate limited", 429, null)));
+        assertFalse(WeatherApiCircuitBreaker.isUpstreamFailure(new RuntimeException("Failed to parse weather data")));
+    }
+
+    @Test
+    @DisplayName("4xx 결과는 연속 실패를 끊고 시험 호출이면 회로를 닫음 테스트")
+    void clientErrorCountsAsSuccessTest() {
+        // given
+        circuitBreaker.record(new WeatherApiException("unavailable", 503, null));
+        circuitBreaker.record(new WeatherApiException("unavailable", 503, null));
+
+        // when
+        circuitBreaker.record(new WeatherApiException("not found", 404, null));
+        circuitBreaker.record(new WeatherApiException("unavailable", 503, null));
+        circuitBreaker.record(new WeatherApiException("unavailable", 503, null));
+
+        // then
+        assertEquals(WeatherApiCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+        openCircuit();
+        clock.advance(Duration.ofSeconds(30));
+        assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.record(new WeatherApiException("not found", 404, null));
+        assertEquals(WeatherApiCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.recordFailure();
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherApiClientHttpTest {
+
+    private static final String WEATHER_RESPONSE = "{"
+            + "\"weather\": [{\"id\": 800, \"main\": \"Clear\", \"description\": \"clear sky\", \"icon\": \"01d\"}],"
+            + "\"main\": {\"temp\": 22.5, \"humidity\": 60, \"pressure\": 1010},"
+            + "\"name\": \"Seoul\""
+            + "}";
+
+    private HttpServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private WeatherApiClient weatherApiClient;
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private volatile int responseCode = 200;
+    private volatile String lastQuery;
+    private volatile boolean stallBody;
+    private final CountDownLatch releaseBody = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/weather", this::handle);
+        server.start();
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        meterRegistry = new SimpleMeterRegistry();
+        weatherApiClient = new WeatherApiClient(new ObjectMapper(), httpClient, meterRegistry);
+        ReflectionTestUtils.setField(weatherApiClient, "apiKey", "test-api-key");
+        ReflectionTestUtils.setField(weatherApiClient, "apiUrl",
+                "http://localhost:" + server.getAddress().getPort() + "/weather");
+        ReflectionTestUtils.setField(weatherApiClient, "city", "Seoul");
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseBody.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("스텁 서버에서 날씨 데이터 조회 테스트")
+    void getWeatherDataTest() {
+        // when
+        WeatherService.WeatherDto result = weatherApiClient.getWeatherData();
+
+        // then
+        assertEquals("Clear", result.description());
+        assertEquals(22.5, result.temperature(), 0.01);
+        assertEquals("q=Seoul&appid=test-api-key&units=metric", lastQuery);
+    }
+
+    @Test
+    @DisplayName("도시 이름을 인코딩해 조회 테스트")
+    void getWeatherDataForCityTest() {
+        // when
+        WeatherService.WeatherDto result = weatherApiClient.getWeatherData("New York");
+
+        // then
+        assertEquals("Clear", result.description());
+        assertEquals("q=New+York&appid=test-api-key&units=metric", lastQuery);
+    }
+
+    @Test
+    @DisplayName("비동기 날씨 데이터 조회 테스트")
+    void getWeatherDataAsyncTest() throws Exception {
+        // when
+        CompletableFuture<WeatherService.WeatherDto> future = weatherApiClient.getWeatherDataAsync();
+
+        // then
+        WeatherService.WeatherDto result = future.get(5, TimeUnit.SECONDS);
+        assertEquals("Clear", result.description());
+    }
+
+    @Test
+    @DisplayName("비정상 응답 코드 시 예외 발생 테스트")
+    void errorResponseTest() {
+        // given
+        responseCode = 401;
+
+        // when & then
+        Exception exception = assertThrows(RuntimeException.class,
+                () -> weatherApiClient.getWeatherData());
+
+        assertTrue(exception.getMessage().contains("Failed to get response from weather API"));
+        assertTrue(exception.getCause().getMessage().contains("401"));
+        assertEquals(1, meterRegistry.get("weather.api.requests")
+                .tag("outcome", "HTTP_ERROR")
+                .tag("status", "401")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("연속 호출 시 커넥션 재사용 테스트")
+    void reuseConnectionTest() {
+        // when
+        int calls = 21;
+        for (int i = 0; i < calls; i++) {
+            weatherApiClient.getWeatherData();
+        }
+
+        // then
+        assertEquals(1, clientPorts.size());
+        assertEquals(calls, weatherApiClient.getFetchCount());
+    }
+
+    @Test
+    @DisplayName("본문 전송이 멈추면 기한 안에 실패 테스트")
+    void stalledBodyTimeoutTest() {
+        // given
+        stallBody = true;
+
+        // when
+        long started = System.nanoTime();
+        Exception exception = assertThrows(RuntimeException.class,
+                () -> weatherApiClient.getWeatherData());
+
+        // then
+        assertTrue(exception.getMessage().contains("Failed to get response from weather API"));
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+        assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(30));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        lastQuery = exchange.getRequestURI().getQuery();
+
+        byte[] body = (responseCode == 200 ? WEATHER_RESPONSE : "{\"cod\": 401}")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(responseCode, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            int sent = 0;
+            if (stallBody) {
+                sent = body.length / 2;
+                os.write(body, 0, sent);
+                os.flush();
+                releaseBody.await(30, TimeUnit.SECONDS);
+            }
+            os.write(body, sent, body.length - sent);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
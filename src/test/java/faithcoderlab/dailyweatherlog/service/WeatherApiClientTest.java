@@ -1,6 +1,8 @@
 package faithcoderlab.dailyweatherlog.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,13 +13,16 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
-import java.io.InputStreamReader;
-import java.io.StringReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -29,6 +34,9 @@ class WeatherApiClientTest {
     @Spy
     private ObjectMapper objectMapper = new ObjectMapper();
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private WeatherApiClient weatherApiClient;
 
@@ -46,32 +54,51 @@ class WeatherApiClientTest {
     void getWeatherDataTest() throws Exception {
         // given
         String jsonResponse = "{"
+                + "\"coord\": {\"lon\": 126.98, \"lat\": 37.57},"
                 + "\"weather\": [{\"id\": 800, \"main\": \"Clear\", \"description\": \"clear sky\", \"icon\": \"01d\"}],"
                 + "\"main\": {\"temp\": 22.5, \"humidity\": 60, \"pressure\": 1010},"
                 + "\"name\": \"Seoul\""
                 + "}";
 
-        doReturn(jsonResponse).when(weatherApiClient).getWeatherString();
+        doReturn(body(jsonResponse)).when(weatherApiClient).fetchWeatherBody("Seoul");
 
         // when
-        Map<String, Object> result = weatherApiClient.getWeatherData();
+        WeatherService.WeatherDto result = weatherApiClient.getWeatherData();
 
         // then
         assertNotNull(result);
-        assertEquals("Seoul", result.get("name"));
-
-        // main 객체 확인
-        @SuppressWarnings("unchecked")
-        Map<String, Object> main = (Map<String, Object>) result.get("main");
-        assertNotNull(main);
-        assertEquals(22.5, main.get("temp"));
-
-        // weather 배열 확인
-        @SuppressWarnings("unchecked")
-        java.util.List<Map<String, Object>> weather = (java.util.List<Map<String, Object>>) result.get("weather");
-        assertNotNull(weather);
-        assertEquals(1, weather.size());
-        assertEquals("Clear", weather.get(0).get("main"));
+        assertEquals("Clear", result.description());
+        assertEquals(22.5, result.temperature(), 0.01);
+    }
+
+    @Test
+    @DisplayName("weather 배열의 첫 번째 항목만 사용 테스트")
+    void parseFirstWeatherEntryTest() {
+        // given
+        String jsonResponse = "{"
+                + "\"main\": {\"feels_like\": 20.1, \"temp\": 21},"
+                + "\"weather\": [{\"main\": \"Rain\"}, {\"main\": \"Mist\"}]"
+                + "}";
+
+        // when
+        WeatherService.WeatherDto result = weatherApiClient.parseWeatherData(stream(jsonResponse));
+
+        // then
+        assertEquals("Rain", result.description());
+        assertEquals(21.0, result.temperature(), 0.01);
+    }
+
+    @Test
+    @DisplayName("필수 필드 누락 시 파싱 실패 테스트")
+    void parseMissingFieldTest() {
+        // given
+        String jsonResponse = "{\"weather\": [{\"main\": \"Clear\"}], \"name\": \"Seoul\"}";
+
+        // when & then
+        Exception exception = assertThrows(RuntimeException.class,
+                () -> weatherApiClient.parseWeatherData(stream(jsonResponse)));
+
+        assertTrue(exception.getMessage().contains("Failed to parse weather data"));
     }
 
     @Test
@@ -79,7 +106,7 @@ class WeatherApiClientTest {
     void getWeatherDataFailureTest() throws Exception {
         // given
         doThrow(new RuntimeException("Failed to get response from weather API"))
-                .when(weatherApiClient).getWeatherString();
+                .when(weatherApiClient).fetchWeatherBody("Seoul");
 
         // when & then
         Exception exception = assertThrows(RuntimeException.class,
@@ -94,7 +121,7 @@ class WeatherApiClientTest {
         // given
         String invalidJsonResponse = "Invalid JSON";
 
-        doReturn(invalidJsonResponse).when(weatherApiClient).getWeatherString();
+        doReturn(body(invalidJsonResponse)).when(weatherApiClient).fetchWeatherBody("Seoul");
 
         // when & then
         Exception exception = assertThrows(RuntimeException.class,
@@ -102,4 +129,127 @@ class WeatherApiClientTest {
 
         assertTrue(exception.getMessage().contains("Failed to parse weather data"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("동시 요청 시 API 호출 1회로 병합 테스트")
+    void coalesceConcurrentRequestsTest() throws Exception {
+        // given
+        int callers = 8;
+        String jsonResponse = "{\"weather\": [{\"main\": \"Clear\"}], \"main\": {\"temp\": 22.5}}";
+        CountDownLatch started = new CountDownLatch(1);
+
+        doAnswer(invocation -> {
+            started.countDown();
+            awaitCoalescedCallers(callers - 1);
+            return body(jsonResponse);
+        }).when(weatherApiClient).fetchWeatherBody("Seoul");
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            // when
+            List<Future<WeatherService.WeatherDto>> results = new ArrayList<>();
+            results.add(executor.submit(() -> weatherApiClient.getWeatherData()));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> weatherApiClient.getWeatherData()));
+            }
+
+            // then
+            for (Future<WeatherService.WeatherDto> result : results) {
+                assertEquals(22.5, result.get(5, TimeUnit.SECONDS).temperature(), 0.01);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(weatherApiClient, times(1)).fetchWeatherBody("Seoul");
+        assertEquals(1, weatherApiClient.getFetchCount());
+        assertEquals(callers - 1, weatherApiClient.getCoalescedCount());
+        assertEquals(1, meterRegistry.get("weather.api.requests").tag("outcome", "SUCCESS").timer().count());
+    }
+
+    @Test
+    @DisplayName("병합된 요청에 실패 전파 테스트")
+    void coalescedRequestsShareFailureTest() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+
+        doAnswer(invocation -> {
+            started.countDown();
+            awaitCoalescedCallers(1);
+            throw new RuntimeException("Failed to get response from weather API");
+        }).when(weatherApiClient).fetchWeatherBody("Seoul");
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // when
+            Future<WeatherService.WeatherDto> first = executor.submit(() -> weatherApiClient.getWeatherData());
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<WeatherService.WeatherDto> second = executor.submit(() -> weatherApiClient.getWeatherData());
+
+            // then
+            for (Future<WeatherService.WeatherDto> result : List.of(first, second)) {
+                ExecutionException exception = assertThrows(ExecutionException.class,
+                        () -> result.get(5, TimeUnit.SECONDS));
+                assertTrue(exception.getCause().getMessage().contains("Failed to get response from weather API"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(weatherApiClient, times(1)).fetchWeatherBody("Seoul");
+    }
+
+    @Test
+    @DisplayName("Error 로 실패한 요청도 진행 중 목록에서 제거 테스트")
+    void removeInFlightRequestOnErrorTest() throws Exception {
+        // given
+        doThrow(new StackOverflowError("boom"))
+                .doReturn(body("{\"weather\": [{\"main\": \"Clear\"}], \"main\": {\"temp\": 22.5}}"))
+                .when(weatherApiClient).fetchWeatherBody("Seoul");
+
+        // when
+        assertThrows(StackOverflowError.class, () -> weatherApiClient.getWeatherData());
+        WeatherService.WeatherDto result = weatherApiClient.getWeatherData();
+
+        // then
+        assertEquals("Clear", result.description());
+        assertEquals(2, weatherApiClient.getFetchCount());
+        assertEquals(0, weatherApiClient.getCoalescedCount());
+    }
+
+    @Test
+    @DisplayName("도시가 다르면 요청을 병합하지 않음 테스트")
+    void doNotCoalesceDifferentCitiesTest() throws Exception {
+        // given
+        doReturn(body("{\"weather\": [{\"main\": \"Clear\"}], \"main\": {\"temp\": 22.5}}"))
+                .when(weatherApiClient).fetchWeatherBody("Seoul");
+        doReturn(body("{\"weather\": [{\"main\": \"Rain\"}], \"main\": {\"temp\": 12.0}}"))
+                .when(weatherApiClient).fetchWeatherBody("Busan");
+
+        // when
+        WeatherService.WeatherDto seoul = weatherApiClient.getWeatherData("Seoul");
+        WeatherService.WeatherDto busan = weatherApiClient.getWeatherData("Busan");
+
+        // then
+        assertEquals("Clear", seoul.description());
+        assertEquals("Rain", busan.description());
+        assertEquals(2, weatherApiClient.getFetchCount());
+        assertEquals(0, weatherApiClient.getCoalescedCount());
+    }
+
+    private static ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(body(json));
+    }
+
+    private static byte[] body(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void awaitCoalescedCallers(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (weatherApiClient.getCoalescedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
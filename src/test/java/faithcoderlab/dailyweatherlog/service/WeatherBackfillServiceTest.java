@@ -0,0 +1,210 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import faithcoderlab.dailyweatherlog.exception.BackfillJobNotFoundException;
+import faithcoderlab.dailyweatherlog.exception.InvalidRequestException;
+import faithcoderlab.dailyweatherlog.model.WeatherBackfillJob;
+import faithcoderlab.dailyweatherlog.repository.WeatherBackfillJobRepository;
+import faithcoderlab.dailyweatherlog.repository.WeatherDataRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WeatherBackfillServiceTest {
+
+    @Mock
+    private WeatherService weatherService;
+
+    @Mock
+    private WeatherDataRepository weatherDataRepository;
+
+    @Mock
+    private WeatherBackfillJobRepository weatherBackfillJobRepository;
+
+    @Mock
+    private WeatherCollector weatherCollector;
+
+    @Mock
+    private ObjectProvider<HistoricalWeatherSource> historicalWeatherSource;
+
+    @Mock
+    private HistoricalWeatherSource source;
+
+    @InjectMocks
+    private WeatherBackfillService weatherBackfillService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(weatherBackfillService, "parallelism", 2);
+        ReflectionTestUtils.setField(weatherBackfillService, "chunkSize", 2);
+        ReflectionTestUtils.setField(weatherBackfillService, "maxDays", 31L);
+    }
+
+    @Test
+    @DisplayName("저장된 키를 한 번에 읽어 누락된 날짜 계산 테스트")
+    void findMissingTest() {
+        // given
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 1, 3);
+        List<String> cities = List.of("Seoul", "Busan");
+
+        when(weatherDataRepository.findByCityInAndDateBetween(cities, startDate, endDate)).thenReturn(List.of(
+                new WeatherDataRepository.CityDate("Seoul", startDate),
+                new WeatherDataRepository.CityDate("Busan", startDate),
+                new WeatherDataRepository.CityDate("Seoul", startDate.plusDays(2))));
+
+        // when
+        List<WeatherDataRepository.CityDate> missing = weatherBackfillService.findMissing(cities, startDate, endDate);
+
+        // then
+        assertEquals(List.of(
+                new WeatherDataRepository.CityDate("Seoul", startDate.plusDays(1)),
+                new WeatherDataRepository.CityDate("Busan", startDate.plusDays(1)),
+                new WeatherDataRepository.CityDate("Busan", startDate.plusDays(2))), missing);
+        verify(weatherDataRepository, times(1)).findByCityInAndDateBetween(cities, startDate, endDate);
+    }
+
+    @Test
+    @DisplayName("청크 단위 저장과 체크포인트 갱신 테스트")
+    void runJobTest() {
+        // given
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 1, 3);
+        WeatherBackfillJob job = runningJob(startDate, endDate);
+
+        when(weatherBackfillJobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(weatherDataRepository.findByCityInAndDateBetween(List.of("Seoul"), startDate, endDate)).thenReturn(List.of());
+        when(historicalWeatherSource.getIfAvailable()).thenReturn(source);
+        when(source.fetch("Seoul", startDate)).thenReturn(Optional.of(new WeatherService.WeatherDto("Clear", 1.0)));
+        when(source.fetch("Seoul", startDate.plusDays(1))).thenReturn(Optional.empty());
+        when(source.fetch("Seoul", endDate)).thenReturn(Optional.of(new WeatherService.WeatherDto("Snow", -3.0)));
+
+        // when
+        weatherBackfillService.runJob(1L);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<WeatherService.CityWeather>> chunkCaptor = ArgumentCaptor.forClass(List.class);
+        verify(weatherService, times(2)).saveWeatherData(chunkCaptor.capture());
+        assertEquals(List.of(new WeatherService.CityWeather("Seoul", startDate, new WeatherService.WeatherDto("Clear", 1.0))),
+                chunkCaptor.getAllValues().get(0));
+        assertEquals(List.of(new WeatherService.CityWeather("Seoul", endDate, new WeatherService.WeatherDto("Snow", -3.0))),
+                chunkCaptor.getAllValues().get(1));
+
+        assertEquals(WeatherBackfillJob.Status.COMPLETED, job.getStatus());
+        assertEquals(3, job.getTotalCount());
+        assertEquals(2, job.getCompletedCount());
+        assertEquals(1, job.getFailedCount());
+        assertEquals(endDate, job.getCheckpointDate());
+    }
+
+    @Test
+    @DisplayName("재시작 시 이미 채운 날짜는 건너뛰고 이어서 실행 테스트")
+    void resumeJobTest() {
+        // given
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 1, 2);
+        WeatherBackfillJob job = runningJob(startDate, endDate);
+        job.setCompletedCount(1);
+        job.setCheckpointDate(startDate);
+
+        when(weatherBackfillJobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(weatherDataRepository.findByCityInAndDateBetween(List.of("Seoul"), startDate, endDate))
+                .thenReturn(List.of(new WeatherDataRepository.CityDate("Seoul", startDate)));
+        when(historicalWeatherSource.getIfAvailable()).thenReturn(source);
+        when(source.fetch("Seoul", endDate)).thenReturn(Optional.of(new WeatherService.WeatherDto("Clear", 2.0)));
+
+        // when
+        weatherBackfillService.runJob(1L);
+
+        // then
+        verify(source, never()).fetch("Seoul", startDate);
+        assertEquals(WeatherBackfillJob.Status.COMPLETED, job.getStatus());
+        assertEquals(2, job.getTotalCount());
+        assertEquals(2, job.getCompletedCount());
+    }
+
+    @Test
+    @DisplayName("저장 실패 시 작업 실패 처리 테스트")
+    void runJobFailureTest() {
+        // given
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        WeatherBackfillJob job = runningJob(date, date);
+
+        when(weatherBackfillJobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(weatherDataRepository.findByCityInAndDateBetween(List.of("Seoul"), date, date)).thenReturn(List.of());
+        when(historicalWeatherSource.getIfAvailable()).thenReturn(source);
+        when(source.fetch("Seoul", date)).thenReturn(Optional.of(new WeatherService.WeatherDto("Clear", 1.0)));
+        doThrow(new RuntimeException("DB 오류")).when(weatherService).saveWeatherData(anyList());
+
+        // when
+        weatherBackfillService.runJob(1L);
+
+        // then
+        assertEquals(WeatherBackfillJob.Status.FAILED, job.getStatus());
+        assertEquals("DB 오류", job.getErrorMessage());
+        assertEquals(0, job.getCompletedCount());
+    }
+
+    @Test
+    @DisplayName("잘못된 기간으로 백필 시작 시 예외 테스트")
+    void startBackfillInvalidRangeTest() {
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> weatherBackfillService.startBackfill(
+                LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 1), null));
+        assertThrows(InvalidRequestException.class, () -> weatherBackfillService.startBackfill(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 1), null));
+        verify(weatherBackfillJobRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("과거 날씨 공급원 없이 백필 시작 시 예외 테스트")
+    void startBackfillWithoutSourceTest() {
+        // given
+        when(historicalWeatherSource.getIfAvailable()).thenReturn(null);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> weatherBackfillService.startBackfill(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 2), null));
+        verify(weatherBackfillJobRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("없는 백필 작업 조회 시 예외 테스트")
+    void getJobNotFoundTest() {
+        // given
+        when(weatherBackfillJobRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(BackfillJobNotFoundException.class, () -> weatherBackfillService.getJob(99L));
+    }
+
+    private static WeatherBackfillJob runningJob(LocalDate startDate, LocalDate endDate) {
+        return WeatherBackfillJob.builder()
+                .id(1L)
+                .cities("Seoul")
+                .startDate(startDate)
+                .endDate(endDate)
+                .status(WeatherBackfillJob.Status.RUNNING)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
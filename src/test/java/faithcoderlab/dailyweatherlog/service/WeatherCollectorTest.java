@@ -0,0 +1,179 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import faithcoderlab.dailyweatherlog.exception.WeatherApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WeatherCollectorTest {
+
+    @Mock
+    private WeatherApiClient weatherApiClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WeatherApiCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new WeatherApiCircuitBreaker(5, 30);
+    }
+
+    @Test
+    @DisplayName("설정된 도시 목록 정리 테스트")
+    void citiesAreTrimmedAndDeduplicatedTest() {
+        // when
+        WeatherCollector weatherCollector = new WeatherCollector(weatherApiClient, circuitBreaker, meterRegistry,
+                List.of(" Seoul", "Busan ", "Seoul", ""), 4, 1000);
+
+        // then
+        assertEquals(List.of("Seoul", "Busan"), weatherCollector.getCities());
+    }
+
+    @Test
+    @DisplayName("동시 요청 수 제한 테스트")
+    void boundedParallelismTest() {
+        // given
+        List<String> cities = IntStream.range(0, 20).mapToObj(i -> "City" + i).toList();
+        WeatherCollector weatherCollector = new WeatherCollector(weatherApiClient, circuitBreaker, meterRegistry, cities, 3, 1000);
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        when(weatherApiClient.getWeatherDataAsync(anyString())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                inFlight.decrementAndGet();
+                return new WeatherService.WeatherDto("Clear", 20.0);
+            }, CompletableFuture.delayedExecutor(20, TimeUnit.MILLISECONDS));
+        });
+
+        // when
+        Map<String, WeatherService.WeatherDto> results = weatherCollector.fetchAll();
+
+        // then
+        assertEquals(20, results.size());
+        assertEquals(cities, List.copyOf(results.keySet()));
+        assertTrue(maxInFlight.get() <= 3, "max in-flight: " + maxInFlight.get());
+        assertEquals(20, meterRegistry.get("weather.collection.cities").tag("outcome", "SUCCESS").counter().count());
+    }
+
+    @Test
+    @DisplayName("실패한 도시는 결과에서 제외 테스트")
+    void failedCitiesAreSkippedTest() {
+        // given
+        WeatherCollector weatherCollector = new WeatherCollector(weatherApiClient, circuitBreaker, meterRegistry,
+                List.of("Seoul", "Atlantis", "Busan"), 2, 1000);
+
+        when(weatherApiClient.getWeatherDataAsync("Seoul"))
+                .thenReturn(CompletableFuture.completedFuture(new WeatherService.WeatherDto("Clear", 20.0)));
+        when(weatherApiClient.getWeatherDataAsync("Atlantis"))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new WeatherApiException("Failed to get response from weather API", 404, null)));
+        when(weatherApiClient.getWeatherDataAsync("Busan"))
+                .thenReturn(CompletableFuture.completedFuture(new WeatherService.WeatherDto("Rain", 18.0)));
+
+        // when
+        Map<String, WeatherService.WeatherDto> results = weatherCollector.fetchAll();
+
+        // then
+        assertEquals(List.of("Seoul", "Busan"), List.copyOf(results.keySet()));
+        assertEquals(1, meterRegistry.get("weather.collection.cities").tag("outcome", "ERROR").counter().count());
+    }
+
+    @Test
+    @DisplayName("회로가 열려 있으면 API 호출 없이 실패 처리 테스트")
+    void openCircuitSkipsApiTest() {
+        // given
+        WeatherCollector weatherCollector = new WeatherCollector(weatherApiClient, circuitBreaker, meterRegistry,
+                List.of("Seoul", "Busan"), 2, 1000);
+        for (int i = 0; i < 5; i++) {
+            circuitBreaker.recordFailure();
+        }
+
+        // when
+        Map<String, WeatherService.WeatherDto> results = weatherCollector.fetchAll();
+
+        // then
+        assertTrue(results.isEmpty());
+        verify(weatherApiClient, never()).getWeatherDataAsync(anyString());
+        assertEquals(2, circuitBreaker.getRejectedCount());
+        assertEquals(2, meterRegistry.get("weather.collection.cities").tag("outcome", "ERROR").counter().count());
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 닿으면 남은 도시는 호출하지 않음 테스트")
+    void failuresOpenCircuitTest() {
+        // given
+        WeatherCollector weatherCollector = new WeatherCollector(weatherApiClient, new WeatherApiCircuitBreaker(2, 30),
+                meterRegistry, List.of("Seoul", "Busan", "Incheon"), 1, 1000);
+
+        when(weatherApiClient.getWeatherDataAsync(anyString()))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new WeatherApiException("Failed to get response from weather API", 503, null)));
+
+        // when
+        Map<String, WeatherService.WeatherDto> results = weatherCollector.fetchAll();
+
+        // then
+        assertTrue(results.isEmpty());
+        verify(weatherApiClient, times(2)).getWeatherDataAsync(anyString());
+        verify(weatherApiClient, never()).getWeatherDataAsync("Incheon");
+    }
+
+    @Test
+    @DisplayName("없는 도시(4xx)가 많아도 회로는 닫힌 채 유지 테스트")
+    void clientErrorsKeepCircuitClosedTest() {
+        // given
+        WeatherApiCircuitBreaker breaker = new WeatherApiCircuitBreaker(2, 30);
+        WeatherCollector weatherCollector = new WeatherCollector(weatherApiClient, breaker,
+                meterRegistry, List.of("Atlantis", "Lemuria", "Seoul"), 1, 1000);
+
+        when(weatherApiClient.getWeatherDataAsync(anyString()))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new WeatherApiException("Failed to get response from weather API", 404, null)));
+        when(weatherApiClient.getWeatherDataAsync("Seoul"))
+                .thenReturn(CompletableFuture.completedFuture(new WeatherService.WeatherDto("Clear", 20.0)));
+
+        // when
+        Map<String, WeatherService.WeatherDto> results = weatherCollector.fetchAll();
+
+        // then
+        assertEquals(List.of("Seoul"), List.copyOf(results.keySet()));
+        assertEquals(WeatherApiCircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("초당 요청 수 제한 테스트")
+    void rateLimitTest() {
+        // given
+        WeatherCollector.RateLimiter rateLimiter = new WeatherCollector.RateLimiter(50);
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < 11; i++) {
+            rateLimiter.acquire();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertTrue(elapsedMillis >= 190, "elapsed: " + elapsedMillis + "ms");
+    }
+}
@@ -0,0 +1,122 @@
+package faithcoderlab.dailyweatherlog.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherDataCacheTest {
+
+    private MutableClock clock;
+    private WeatherDataCache weatherDataCache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-12-31T00:00:00Z"));
+        weatherDataCache = new WeatherDataCache(2, Duration.ofMinutes(10), clock);
+    }
+
+    @Test
+    @DisplayName("캐시 적중 및 미적중 카운트 테스트")
+    void hitAndMissTest() {
+        // given
+        LocalDate date = LocalDate.of(2024, 12, 31);
+        weatherDataCache.put(date, new WeatherService.WeatherDto("Clear", 22.0));
+
+        // when
+        assertTrue(weatherDataCache.get(date).isPresent());
+        assertTrue(weatherDataCache.get(date.minusDays(1)).isEmpty());
+
+        // then
+        assertEquals(1, weatherDataCache.getHitCount());
+        assertEquals(1, weatherDataCache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("최대 크기 초과 시 가장 오래 사용되지 않은 항목 제거 테스트")
+    void evictLeastRecentlyUsedTest() {
+        // given
+        LocalDate first = LocalDate.of(2024, 12, 29);
+        LocalDate second = LocalDate.of(2024, 12, 30);
+        LocalDate third = LocalDate.of(2024, 12, 31);
+
+        weatherDataCache.put(first, new WeatherService.WeatherDto("Clear", 20.0));
+        weatherDataCache.put(second, new WeatherService.WeatherDto("Clouds", 18.0));
+        weatherDataCache.get(first);
+
+        // when
+        weatherDataCache.put(third, new WeatherService.WeatherDto("Rain", 15.0));
+
+        // then
+        assertEquals(2, weatherDataCache.size());
+        assertTrue(weatherDataCache.get(first).isPresent());
+        assertTrue(weatherDataCache.get(second).isEmpty());
+        assertEquals(1, weatherDataCache.getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("TTL 만료 항목 미반환 테스트")
+    void expiredEntryTest() {
+        // given
+        LocalDate date = LocalDate.of(2024, 12, 31);
+        weatherDataCache.put(date, new WeatherService.WeatherDto("Clear", 22.0));
+
+        // when
+        clock.advance(Duration.ofMinutes(10));
+
+        // then
+        assertTrue(weatherDataCache.get(date).isEmpty());
+        assertEquals(0, weatherDataCache.size());
+        assertEquals(1, weatherDataCache.getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("무효화 테스트")
+    void invalidateTest() {
+        // given
+        LocalDate date = LocalDate.of(2024, 12, 31);
+        weatherDataCache.put(date, new WeatherService.WeatherDto("Clear", 22.0));
+
+        // when
+        weatherDataCache.invalidate(date);
+
+        // then
+        assertTrue(weatherDataCache.get(date).isEmpty());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
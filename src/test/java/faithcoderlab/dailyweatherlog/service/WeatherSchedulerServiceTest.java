@@ -1,15 +1,26 @@
 package faithcoderlab.dailyweatherlog.service;
 
+import faithcoderlab.dailyweatherlog.repository.WeatherDataRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -18,6 +29,15 @@ class WeatherSchedulerServiceTest {
     @Mock
     private WeatherService weatherService;
 
+    @Mock
+    private WeatherCollector weatherCollector;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private WeatherDataRepository weatherDataRepository;
+
     @InjectMocks
     private WeatherSchedulerService weatherSchedulerService;
 
@@ -25,38 +45,107 @@ class WeatherSchedulerServiceTest {
     @DisplayName("일일 날씨 데이터 스케줄러 테스트")
     void saveWeatherDataDailyTest() {
         // given
-        doNothing().when(weatherService).saveWeatherData(any(LocalDate.class));
+        Map<String, WeatherService.WeatherDto> weatherByCity = Map.of(
+                "Seoul", new WeatherService.WeatherDto("Clear", 20.0),
+                "Busan", new WeatherService.WeatherDto("Rain", 18.0));
+        when(weatherCollector.fetchAll()).thenReturn(weatherByCity);
+        when(weatherService.saveWeatherData(any(LocalDate.class), eq(weatherByCity))).thenReturn(2);
 
         // when
         weatherSchedulerService.saveWeatherDataDaily();
 
         // then
-        verify(weatherService, times(1)).saveWeatherData(any(LocalDate.class));
+        verify(weatherService, times(1)).saveWeatherData(any(LocalDate.class), eq(weatherByCity));
+        assertEquals(1, meterRegistry.get("weather.scheduler.runs")
+                .tag("task", "daily")
+                .tag("outcome", "SUCCESS")
+                .timer().count());
     }
 
     @Test
     @DisplayName("애플리케이션 시작 시 날씨 데이터 수집 테스트")
     void saveWeatherDataOnStartUpTest() {
         // given
-        doNothing().when(weatherService).saveWeatherData(any(LocalDate.class));
+        Map<String, WeatherService.WeatherDto> weatherByCity = Map.of(
+                "Seoul", new WeatherService.WeatherDto("Clear", 20.0));
+        when(weatherCollector.getCities()).thenReturn(List.of("Seoul", "Busan"));
+        when(weatherDataRepository.countByDateAndCityIn(any(LocalDate.class), eq(List.of("Seoul", "Busan")))).thenReturn(1L);
+        when(weatherCollector.fetchAll()).thenReturn(weatherByCity);
+
+        // when
+        weatherSchedulerService.saveWeatherDataOnStartUp();
+
+        // then
+        verify(weatherService, times(1)).saveWeatherData(any(LocalDate.class), eq(weatherByCity));
+    }
+
+    @Test
+    @DisplayName("오늘 날씨가 모두 저장되어 있으면 시작 시 수집 생략 테스트")
+    void skipStartupCollectionWhenStoredTest() {
+        // given
+        when(weatherCollector.getCities()).thenReturn(List.of("Seoul", "Busan"));
+        when(weatherDataRepository.countByDateAndCityIn(any(LocalDate.class), eq(List.of("Seoul", "Busan")))).thenReturn(2L);
 
         // when
         weatherSchedulerService.saveWeatherDataOnStartUp();
 
         // then
-        verify(weatherService, times(1)).saveWeatherData(any(LocalDate.class));
+        verify(weatherCollector, never()).fetchAll();
+        verify(weatherService, never()).saveWeatherData(any(LocalDate.class), anyMap());
+    }
+
+    @Test
+    @DisplayName("트래픽을 받기 시작하면 백그라운드에서 한 번만 수집 테스트")
+    void collectOnceWhenAcceptingTrafficTest() {
+        // given
+        ReflectionTestUtils.setField(weatherSchedulerService, "collectOnStartup", true);
+        when(weatherCollector.getCities()).thenReturn(List.of("Seoul"));
+        when(weatherDataRepository.countByDateAndCityIn(any(LocalDate.class), eq(List.of("Seoul")))).thenReturn(0L);
+        when(weatherCollector.fetchAll()).thenReturn(Map.of("Seoul", new WeatherService.WeatherDto("Clear", 20.0)));
+
+        // when
+        weatherSchedulerService.onReadinessChanged(new AvailabilityChangeEvent<>(this, ReadinessState.REFUSING_TRAFFIC));
+        weatherSchedulerService.onReadinessChanged(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+        weatherSchedulerService.onReadinessChanged(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+
+        // then
+        verify(weatherService, timeout(2000)).saveWeatherData(any(LocalDate.class), anyMap());
+        verify(weatherCollector, after(200).times(1)).fetchAll();
     }
 
     @Test
     @DisplayName("날씨 데이터 수집 중 예외 발생 시 처리 테스트")
     void saveWeatherDataWithExceptionTest() {
         // given
-        doThrow(new RuntimeException("API 호출 오류")).when(weatherService).saveWeatherData(any(LocalDate.class));
+        when(weatherCollector.fetchAll()).thenReturn(Map.of(
+                "Seoul", new WeatherService.WeatherDto("Clear", 20.0)));
+        doThrow(new RuntimeException("DB 저장 오류"))
+                .when(weatherService).saveWeatherData(any(LocalDate.class), anyMap());
+
+        // when
+        weatherSchedulerService.saveWeatherDataDaily();
+
+        // then
+        assertEquals(1, meterRegistry.get("weather.scheduler.runs")
+                .tag("task", "daily")
+                .tag("outcome", "ERROR")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("모든 도시 수집 실패 시 저장하지 않음 테스트")
+    void noCitiesCollectedTest() {
+        // given
+        when(weatherCollector.fetchAll()).thenReturn(Map.of());
 
         // when
         weatherSchedulerService.saveWeatherDataDaily();
 
         // then
-        verify(weatherService, times(1)).saveWeatherData(any(LocalDate.class));
+        verify(weatherService, never()).saveWeatherData(any(LocalDate.class), anyMap());
+        assertEquals(1, meterRegistry.get("weather.scheduler.runs")
+                .tag("task", "daily")
+                .tag("outcome", "ERROR")
+                .timer().count());
     }
-}
\ No newline at end of file
+}
@@ -1,17 +1,28 @@
 package faithcoderlab.dailyweatherlog.service;
 
+import faithcoderlab.dailyweatherlog.exception.WeatherApiException;
 import faithcoderlab.dailyweatherlog.model.WeatherData;
 import faithcoderlab.dailyweatherlog.repository.WeatherDataRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
-import java.util.*;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,25 +37,35 @@ class WeatherServiceTest {
     @Mock
     private WeatherDataRepository weatherDataRepository;
 
+    @Spy
+    private WeatherDataCache weatherDataCache = new WeatherDataCache(10, 3600);
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private WeatherApiCircuitBreaker circuitBreaker = new WeatherApiCircuitBreaker(2, 30);
+
+    @Mock
+    private StatisticsService statisticsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private WeatherService weatherService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(weatherService, "defaultCity", "Seoul");
+    }
+
     @Test
     @DisplayName("API에서 날씨 데이터 가져오기 테스트")
     void getWeatherFromApiTest() {
         // given
-        Map<String, Object> weatherResponse = new HashMap<>();
-        Map<String, Object> mainData = new HashMap<>();
-        mainData.put("temp", 20.5);
-        weatherResponse.put("main", mainData);
-
-        List<Map<String, Object>> weatherList = new ArrayList<>();
-        Map<String, Object> weatherDetails = new HashMap<>();
-        weatherDetails.put("main", "Sunny");
-        weatherList.add(weatherDetails);
-        weatherResponse.put("weather", weatherList);
-
-        when(weatherApiClient.getWeatherData()).thenReturn(weatherResponse);
+        when(weatherApiClient.getWeatherData())
+                .thenReturn(new WeatherService.WeatherDto("Sunny", 20.5));
 
         // when
         WeatherService.WeatherDto result = weatherService.getWeatherFromApi();
@@ -66,7 +87,7 @@ class WeatherServiceTest {
                 .temperature(15.5)
                 .build();
 
-        when(weatherDataRepository.findByDate(date)).thenReturn(Optional.of(weatherData));
+        when(weatherDataRepository.findByCityAndDate("Seoul", date)).thenReturn(Optional.of(weatherData));
 
         // when
         WeatherService.WeatherDto result = weatherService.getWeatherData(date);
@@ -78,25 +99,62 @@ class WeatherServiceTest {
     }
 
     @Test
-    @DisplayName("날씨 데이터 DB에 없을 때 API에서 가져오기 테스트")
-    void getWeatherDataFromApiWhenNotInDatabaseTest() {
+    @DisplayName("캐시된 날씨 데이터는 DB 조회 없이 반환 테스트")
+    void getWeatherDataFromCacheTest() {
+        // given
+        LocalDate date = LocalDate.of(2024, 12, 31);
+        WeatherData weatherData = WeatherData.builder()
+                .id(1L)
+                .date(date)
+                .weather("Cloudy")
+                .temperature(15.5)
+                .build();
+
+        when(weatherDataRepository.findByCityAndDate("Seoul", date)).thenReturn(Optional.of(weatherData));
+
+        // when
+        weatherService.getWeatherData(date);
+        WeatherService.WeatherDto result = weatherService.getWeatherData(date);
+
+        // then
+        assertEquals("Cloudy", result.description());
+        assertEquals(15.5, result.temperature(), 0.01);
+        verify(weatherDataRepository, times(1)).findByCityAndDate("Seoul", date);
+        assertEquals(1, weatherDataCache.getHitCount());
+        assertEquals(1, meterRegistry.get("weather.lookups").tag("source", "cache").counter().count());
+        assertEquals(1, meterRegistry.get("weather.lookups").tag("source", "database").counter().count());
+    }
+
+    @Test
+    @DisplayName("날씨 데이터 저장 시 캐시 무효화 테스트")
+    void saveWeatherDataInvalidatesCacheTest() {
         // given
         LocalDate date = LocalDate.of(2024, 12, 31);
+        weatherDataCache.put(date, new WeatherService.WeatherDto("Cloudy", 15.5));
+
+        when(weatherDataRepository.findByCityAndDate("Seoul", date)).thenReturn(Optional.empty());
+
+        when(weatherApiClient.getWeatherData())
+                .thenReturn(new WeatherService.WeatherDto("Sunny", 22.0));
+
+        // when
+        weatherService.saveWeatherData(date);
 
-        when(weatherDataRepository.findByDate(date)).thenReturn(Optional.empty());
+        // then
+        verify(weatherDataCache).invalidate(date);
+        assertTrue(weatherDataCache.get(date).isEmpty());
+    }
 
-        Map<String, Object> weatherResponse = new HashMap<>();
-        Map<String, Object> mainData = new HashMap<>();
-        mainData.put("temp", 22.0);
-        weatherResponse.put("main", mainData);
+    @Test
+    @DisplayName("날씨 데이터 DB에 없을 때 API에서 가져오기 테스트")
+    void getWeatherDataFromApiWhenNotInDatabaseTest() {
+        // given
+        LocalDate date = LocalDate.of(2024, 12, 31);
 
-        List<Map<String, Object>> weatherList = new ArrayList<>();
-        Map<String, Object> weatherDetails = new HashMap<>();
-        weatherDetails.put("main", "Sunny");
-        weatherList.add(weatherDetails);
-        weatherResponse.put("weather", weatherList);
+        when(weatherDataRepository.findByCityAndDate("Seoul", date)).thenReturn(Optional.empty());
 
-        when(weatherApiClient.getWeatherData()).thenReturn(weatherResponse);
+        when(weatherApiClient.getWeatherData())
+                .thenReturn(new WeatherService.WeatherDto("Sunny", 22.0));
 
         // when
         WeatherService.WeatherDto result = weatherService.getWeatherData(date);
@@ -105,6 +163,7 @@ class WeatherServiceTest {
         assertEquals("Sunny", result.description());
         assertEquals(22.0, result.temperature(), 0.01);
         verify(weatherApiClient).getWeatherData();
+        assertEquals(1, meterRegistry.get("weather.lookups").tag("source", "api").counter().count());
     }
 
     @Test
@@ -113,20 +172,10 @@ class WeatherServiceTest {
         // given
         LocalDate date = LocalDate.of(2024, 12, 31);
 
-        when(weatherDataRepository.findByDate(date)).thenReturn(Optional.empty());
-
-        Map<String, Object> weatherResponse = new HashMap<>();
-        Map<String, Object> mainData = new HashMap<>();
-        mainData.put("temp", 22.0);
-        weatherResponse.put("main", mainData);
+        when(weatherDataRepository.findByCityAndDate("Seoul", date)).thenReturn(Optional.empty());
 
-        List<Map<String, Object>> weatherList = new ArrayList<>();
-        Map<String, Object> weatherDetails = new HashMap<>();
-        weatherDetails.put("main", "Sunny");
-        weatherList.add(weatherDetails);
-        weatherResponse.put("weather", weatherList);
-
-        when(weatherApiClient.getWeatherData()).thenReturn(weatherResponse);
+        when(weatherApiClient.getWeatherData())
+                .thenReturn(new WeatherService.WeatherDto("Sunny", 22.0));
 
         // when
         weatherService.saveWeatherData(date);
@@ -136,6 +185,7 @@ class WeatherServiceTest {
         verify(weatherDataRepository).save(weatherDataCaptor.capture());
 
         WeatherData savedData = weatherDataCaptor.getValue();
+        assertEquals("Seoul", savedData.getCity());
         assertEquals(date, savedData.getDate());
         assertEquals("Sunny", savedData.getWeather());
         assertEquals(22.0, savedData.getTemperature(), 0.01);
@@ -154,20 +204,10 @@ class WeatherServiceTest {
                 .temperature(15.5)
                 .build();
 
-        when(weatherDataRepository.findByDate(date)).thenReturn(Optional.of(existingData));
-
-        Map<String, Object> weatherResponse = new HashMap<>();
-        Map<String, Object> mainData = new HashMap<>();
-        mainData.put("temp", 22.0);
-        weatherResponse.put("main", mainData);
+        when(weatherDataRepository.findByCityAndDate("Seoul", date)).thenReturn(Optional.of(existingData));
 
-        List<Map<String, Object>> weatherList = new ArrayList<>();
-        Map<String, Object> weatherDetails = new HashMap<>();
-        weatherDetails.put("main", "Sunny");
-        weatherList.add(weatherDetails);
-        weatherResponse.put("weather", weatherList);
-
-        when(weatherApiClient.getWeatherData()).thenReturn(weatherResponse);
+        when(weatherApiClient.getWeatherData())
+                .thenReturn(new WeatherService.WeatherDto("Sunny", 22.0));
 
         // when
         weatherService.saveWeatherData(date);
@@ -183,6 +223,163 @@ class WeatherServiceTest {
         assertEquals(22.0, updatedData.getTemperature(), 0.01);
     }
 
+    @Test
+    @DisplayName("여러 도시 날씨 일괄 저장 테스트")
+    void saveWeatherDataForCitiesTest() {
+        // given
+        LocalDate date = LocalDate.of(2024, 12, 31);
+        weatherDataCache.put(date, new WeatherService.WeatherDto("Cloudy", 15.5));
+
+        Map<String, WeatherService.WeatherDto> weatherByCity = new LinkedHashMap<>();
+        weatherByCity.put("Seoul", new WeatherService.WeatherDto("Sunny", 22.0));
+        weatherByCity.put("Busan", new WeatherService.WeatherDto("Rain", 18.0));
+
+        WeatherData existingSeoul = WeatherData.builder()
+                .id(1L)
+                .city("Seoul")
+                .date(date)
+                .weather("Cloudy")
+                .temperature(15.5)
+                .build();
+
+        when(weatherDataRepository.findAllByDateAndCityIn(date, weatherByCity.keySet()))
+                .thenReturn(List.of(existingSeoul));
+
+        // when
+        int saved = weatherService.saveWeatherData(date, weatherByCity);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<WeatherData>> rowsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(weatherDataRepository).saveAll(rowsCaptor.capture());
+        verify(weatherDataRepository, never()).save(any(WeatherData.class));
+
+        List<WeatherData> rows = rowsCaptor.getValue();
+        assertEquals(2, saved);
+        assertEquals(2, rows.size());
+        assertSame(existingSeoul, rows.get(0));
+        assertEquals("Sunny", rows.get(0).getWeather());
+        assertNull(rows.get(1).getId());
+        assertEquals("Busan", rows.get(1).getCity());
+        assertEquals(date, rows.get(1).getDate());
+        assertEquals(18.0, rows.get(1).getTemperature(), 0.01);
+        assertTrue(weatherDataCache.get(date).isEmpty());
+        verify(statisticsService).refreshWeatherMonths(List.of(
+                new WeatherDataRepository.CityDate("Seoul", date),
+                new WeatherDataRepository.CityDate("Busan", date)));
+        verify(eventPublisher).publishEvent(new WeatherSavedEvent(List.of(
+                new WeatherService.CityWeather("Seoul", date, weatherByCity.get("Seoul")),
+                new WeatherService.CityWeather("Busan", date, weatherByCity.get("Busan")))));
+    }
+
+    @Test
+    @DisplayName("오늘 날씨 API 실패 시 가장 가까운 날짜의 날씨를 stale 로 반환하고 비동기 갱신 테스트")
+    void staleFallbackWhenApiFailsTest() throws InterruptedException {
+        // given
+        LocalDate date = LocalDate.now();
+
+        when(weatherDataRepository.findByCityAndDate("Seoul", date)).thenReturn(Optional.empty());
+        when(weatherApiClient.getWeatherData())
+                .thenThrow(new WeatherApiException("Failed to get response from weather API", 0, null));
+        when(weatherDataRepository.findFirstByCityAndDateLessThanOrderByDateDesc("Seoul", date))
+                .thenReturn(Optional.of(weatherData(date.minusDays(3), "Cloudy", 10.0)));
+        when(weatherDataRepository.findFirstByCityAndDateGreaterThanOrderByDateAsc("Seoul", date))
+                .thenReturn(Optional.of(weatherData(date.plusDays(1), "Rain", 8.0)));
+        when(weatherApiClient.getWeatherDataAsync())
+                .thenReturn(CompletableFuture.completedFuture(new WeatherService.WeatherDto("Sunny", 22.0)));
+
+        // when
+        WeatherService.WeatherDto result = weatherService.getWeatherData(date);
+
+        // then
+        assertEquals(new WeatherService.WeatherDto("Rain", 8.0, true), result);
+        assertEquals(1, meterRegistry.get("weather.lookups").tag("source", "stale").counter().count());
+
+        verify(weatherApiClient, timeout(1000)).getWeatherDataAsync();
+        assertEquals(new WeatherService.WeatherDto("Sunny", 22.0), awaitCached(date));
+    }
+
+    @Test
+    @DisplayName("지난 날짜의 stale 날씨는 현재 날씨로 갱신하지 않음 테스트")
+    void staleFallbackForPastDateIsNotRefreshedTest() {
+        // given
+        LocalDate date = LocalDate.now().minusDays(10);
+
+        when(weatherDataRepository.findByCityAndDate("Seoul", date)).thenReturn(Optional.empty());
+        when(weatherApiClient.getWeatherData())
+                .thenThrow(new WeatherApiException("Failed to get response from weather API", 503, null));
+        when(weatherDataRepository.findFirstByCityAndDateLessThanOrderByDateDesc("Seoul", date))
+                .thenReturn(Optional.of(weatherData(date.minusDays(1), "Cloudy", 10.0)));
+
+        // when
+        WeatherService.WeatherDto result = weatherService.getWeatherData(date);
+
+        // then
+        assertTrue(result.stale());
+        verify(weatherApiClient, after(300).never()).getWeatherDataAsync();
+        assertTrue(weatherDataCache.get(date).isEmpty());
+    }
+
+    @Test
+    @DisplayName("회로가 열려 있으면 API 호출 없이 stale 날씨 반환 테스트")
+    void openCircuitSkipsApiTest() {
+        // given
+        LocalDate date = LocalDate.of(2024, 12, 31);
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+
+        when(weatherDataRepository.findByCityAndDate("Seoul", date)).thenReturn(Optional.empty());
+        when(weatherDataRepository.findFirstByCityAndDateLessThanOrderByDateDesc("Seoul", date))
+                .thenReturn(Optional.of(weatherData(date.minusDays(1), "Cloudy", 10.0)));
+
+        // when
+        WeatherService.WeatherDto result = weatherService.getWeatherData(date);
+
+        // then
+        assertTrue(result.stale());
+        assertEquals("Cloudy", result.description());
+        verify(weatherApiClient, never()).getWeatherData();
+        assertEquals(1, circuitBreaker.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("저장된 날씨가 없으면 API 실패를 그대로 전파 테스트")
+    void apiFailureWithoutStaleDataTest() {
+        // given
+        LocalDate date = LocalDate.of(2024, 12, 31);
+
+        when(weatherDataRepository.findByCityAndDate("Seoul", date)).thenReturn(Optional.empty());
+        when(weatherApiClient.getWeatherData())
+                .thenThrow(new WeatherApiException("Failed to get response from weather API", 0, null));
+
+        // when & then
+        Exception exception = assertThrows(RuntimeException.class, () -> weatherService.getWeatherData(date));
+        assertTrue(exception.getMessage().contains("Failed to get weather data"));
+    }
+
+    @Test
+    @DisplayName("4xx 응답과 파싱 오류는 stale 로 가리지 않고 회로 실패로 세지 않음 테스트")
+    void clientErrorIsNotFallbackTest() {
+        // given
+        LocalDate date = LocalDate.of(2024, 12, 31);
+
+        when(weatherDataRepository.findByCityAndDate("Seoul", date)).thenReturn(Optional.empty());
+        when(weatherApiClient.getWeatherData())
+                .thenThrow(new WeatherApiException("Failed to get response from weather API", 401, null))
+                .thenThrow(new RuntimeException("Failed to parse weather data"))
+                .thenThrow(new WeatherApiException("Failed to get response from weather API", 404, null));
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThrows(RuntimeException.class, () -> weatherService.getWeatherData(date));
+        }
+
+        // then
+        assertEquals(WeatherApiCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        verify(circuitBreaker, never()).recordFailure();
+        verify(weatherDataRepository, never()).findFirstByCityAndDateLessThanOrderByDateDesc(any(), any());
+    }
+
     @Test
     @DisplayName("API 호출 실패 테스트")
     void apiCallFailureTest() {
@@ -195,4 +392,25 @@ class WeatherServiceTest {
 
         assertTrue(exception.getMessage().contains("Failed to get weather data"));
     }
-}
\ No newline at end of file
+
+    private static WeatherData weatherData(LocalDate date, String weather, double temperature) {
+        return WeatherData.builder()
+                .city("Seoul")
+                .date(date)
+                .weather(weather)
+                .temperature(temperature)
+                .build();
+    }
+
+    private WeatherService.WeatherDto awaitCached(LocalDate date) throws InterruptedException {
+        long deadline = System.nanoTime() + 1_000_000_000L;
+        while (System.nanoTime() < deadline) {
+            Optional<WeatherService.WeatherDto> cached = weatherDataCache.get(date);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+            Thread.sleep(10);
+        }
+        return null;
+    }
+}